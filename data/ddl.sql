@@ -83,3 +83,40 @@ CREATE TABLE `photo_check`(
   FOREIGN KEY (user_challenge_id) references user_challenge(user_challenge_id),
   FOREIGN KEY (challenge_photo_id) references challenge_photo(challenge_photo_id)
 );
+
+CREATE INDEX `idx_challenge_status_id` ON `challenge` (`status`, `challenge_id`);
+CREATE INDEX `idx_user_challenge_challenge_status` ON `user_challenge` (`challenge_id`, `status`, `max_progress`);
+ALTER TABLE `user_challenge` ADD CONSTRAINT `uk_user_challenge_user_challenge` UNIQUE (`user_id`, `challenge_id`);
+CREATE INDEX `idx_photo_check_user_challenge_round` ON `photo_check` (`user_challenge_id`, `round`);
+alter table challenge add thumbnail_url varchar(255);
+alter table challenge_photo add thumbnail_url varchar(255);
+CREATE INDEX `idx_comment_challenge_photo` ON `comment` (`challenge_photo_id`);
+CREATE INDEX `idx_likes_challenge_photo` ON `likes` (`challenge_photo_id`);
+CREATE INDEX `idx_challenge_photo_user_id` ON `challenge_photo` (`user_id`, `challenge_photo_id`);
+alter table challenge_photo add like_count bigint NOT NULL DEFAULT 0;
+alter table challenge_photo add comment_count bigint NOT NULL DEFAULT 0;
+update challenge_photo cp set like_count = (select count(*) from likes l where l.challenge_photo_id = cp.challenge_photo_id), comment_count = (select count(*) from comment c where c.challenge_photo_id = cp.challenge_photo_id);
+delete l1 from likes l1 join likes l2 on l1.user_id = l2.user_id and l1.challenge_photo_id = l2.challenge_photo_id and l1.like_id > l2.like_id;
+ALTER TABLE `likes` ADD CONSTRAINT `uk_likes_user_challenge_photo` UNIQUE (`user_id`, `challenge_photo_id`);
+CREATE INDEX `idx_notification_recipient_id` ON `notification` (`recipient_id`, `notification_id`);
+alter table users add unread_notification_count bigint NOT NULL DEFAULT 0;
+update users u set unread_notification_count = (select count(*) from notification n where n.recipient_id = u.user_id and n.status = 'NOT_READ');
+alter table refresh_token add access_token_hash char(64);
+alter table refresh_token add refresh_token_hash char(64);
+update refresh_token set access_token_hash = sha2(access_token, 256), refresh_token_hash = sha2(refresh_token, 256);
+alter table refresh_token modify access_token_hash char(64) NOT NULL;
+alter table refresh_token modify refresh_token_hash char(64) NOT NULL;
+alter table refresh_token drop column access_token;
+alter table refresh_token drop column refresh_token;
+delete r1 from refresh_token r1 join refresh_token r2 on r1.user_id = r2.user_id and r1.refresh_token_id < r2.refresh_token_id;
+CREATE INDEX `idx_refresh_token_refresh_token_hash` ON `refresh_token` (`refresh_token_hash`);
+ALTER TABLE `refresh_token` ADD CONSTRAINT `uk_refresh_token_user_id` UNIQUE (`user_id`);
+alter table notification add created_date datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+alter table notification add updated_date datetime(6);
+CREATE INDEX `idx_notification_status_created_date` ON `notification` (`status`, `created_date`);
+alter table refresh_token add created_date datetime(6);
+alter table refresh_token add updated_date datetime(6);
+update refresh_token set created_date = now(6), updated_date = now(6);
+CREATE INDEX `idx_refresh_token_updated_date` ON `refresh_token` (`updated_date`);
+alter table user_challenge add fail_sweep_id varchar(36);
+CREATE INDEX `idx_user_challenge_fail_sweep_id` ON `user_challenge` (`fail_sweep_id`, `challenge_id`);
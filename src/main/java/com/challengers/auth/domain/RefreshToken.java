@@ -1,5 +1,7 @@
 package com.challengers.auth.domain;
 
+import com.challengers.common.BaseTimeEntity;
+import com.challengers.security.TokenDigest;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,10 +10,19 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 
+/**
+ * 토큰 원문 대신 SHA-256 다이제스트를 고정 길이 컬럼에 저장하고, 재발급은 refresh_token_hash 인덱스로 한 건만 찾는다.
+ * 마지막으로 교체된 시각(updated_date)에서 리프레시 토큰 유효 시간이 지나면 RetentionScheduler 가 지운다.
+ */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_refresh_token_hash", columnList = "refresh_token_hash"),
+        @Index(name = "idx_refresh_token_updated_date", columnList = "updated_date")
+},
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_user_id", columnNames = "user_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class RefreshToken {
+public class RefreshToken extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "refresh_token_id")
@@ -22,21 +33,22 @@ public class RefreshToken {
     private Long userId;
 
     @NotNull
-    private String accessToken;
+    @Column(name = "access_token_hash", columnDefinition = "char(64)")
+    private String accessTokenHash;
 
     @NotNull
-    private String refreshToken;
+    @Column(name = "refresh_token_hash", columnDefinition = "char(64)")
+    private String refreshTokenHash;
 
     @Builder
     public RefreshToken(Long id, Long userId, String accessToken, String refreshToken) {
         this.id = id;
         this.userId = userId;
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
+        update(accessToken, refreshToken);
     }
 
     public void update(String accessToken, String refreshToken){
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
+        this.accessTokenHash = TokenDigest.sha256(accessToken);
+        this.refreshTokenHash = TokenDigest.sha256(refreshToken);
     }
-}
\ No newline at end of file
+}
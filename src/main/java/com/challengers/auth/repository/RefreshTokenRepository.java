@@ -11,6 +11,6 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("select r from RefreshToken r where r.userId = :userId")
     Optional<RefreshToken> findByUserId(@Param("userId") Long userId);
 
-    @Query("select r from RefreshToken r where r.accessToken = :accessToken and r.refreshToken = :refreshToken")
-    Optional<RefreshToken> findByAccessTokenAndRefreshToken(@Param("accessToken") String accessToken, @Param("refreshToken") String refreshToken);
-}
\ No newline at end of file
+    @Query("select r from RefreshToken r where r.refreshTokenHash = :refreshTokenHash and r.accessTokenHash = :accessTokenHash")
+    Optional<RefreshToken> findByTokenHashes(@Param("accessTokenHash") String accessTokenHash, @Param("refreshTokenHash") String refreshTokenHash);
+}
@@ -7,11 +7,15 @@ import com.challengers.auth.dto.TokenDto;
 import com.challengers.auth.repository.RefreshTokenRepository;
 import com.challengers.common.exception.BadRequestException;
 import com.challengers.common.exception.UserException;
+import com.challengers.security.ParsedToken;
+import com.challengers.security.TokenDigest;
 import com.challengers.security.TokenProvider;
+import com.challengers.security.VerifiedTokenCache;
 import com.challengers.user.domain.*;
-import com.challengers.user.repository.AchievementRepository;
+import com.challengers.user.dto.UserVisitedEvent;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,17 +25,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
 import javax.transaction.Transactional;
 import javax.validation.Valid;
-import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
-    private final AchievementRepository achievementRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ResponseEntity<String> signUp(@Valid @RequestBody AuthDto authDto) {
@@ -59,20 +64,7 @@ public class AuthService {
     public ResponseEntity<TokenDto> signIn(@Valid @RequestBody LogInRequest logInRequest) {
         User user = userRepository.findByEmail(logInRequest.getEmail()).orElseThrow(UserException::new);
 
-        //개근30일 업적 로직
-        if(Duration.between(user.getVisitTime().atStartOfDay(), LocalDate.now().atStartOfDay()).toDays()==1){
-            user.update(LocalDate.now(), user.getAttendanceCount()+1);
-            if(user.getAttendanceCount() >= 30){
-                Achievement achievement = Achievement.builder()
-                        .user(user)
-                        .award(Award.PERFECT_ATTENDANCE)
-                        .build();
-
-                achievementRepository.save(achievement);
-            }
-        }else{
-            user.update(LocalDate.now(), user.getAttendanceCount());
-        }
+        eventPublisher.publishEvent(new UserVisitedEvent(user.getId(), LocalDate.now()));
 
         String accessToken = tokenProvider.createAccessTokenByUserEntity(user);
         String refreshToken = tokenProvider.createRefreshTokenByUserEntity(user);
@@ -80,30 +72,37 @@ public class AuthService {
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add("Authorization", "Bearer " + accessToken);
 
-        RefreshToken newRefreshToken = refreshTokenRepository.findByUserId(user.getId())
-                .orElseGet(() -> refreshTokenRepository.save(RefreshToken.builder()
-                        .refreshToken(refreshToken)
-                        .accessToken(accessToken)
-                        .userId(user.getId())
-                        .build()));
-
-        newRefreshToken.update(accessToken, refreshToken);
+        Optional<RefreshToken> savedRefreshToken = refreshTokenRepository.findByUserId(user.getId());
+        if (savedRefreshToken.isPresent()) {
+            verifiedTokenCache.deny(savedRefreshToken.get().getAccessTokenHash()); // 교체되는 이전 액세스 토큰은 더 이상 받지 않는다.
+            savedRefreshToken.get().update(accessToken, refreshToken);
+        } else {
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .refreshToken(refreshToken)
+                    .accessToken(accessToken)
+                    .userId(user.getId())
+                    .build());
+        }
         return new ResponseEntity<>(new TokenDto("Bearer " + accessToken, refreshToken), httpHeaders, HttpStatus.OK);
     }
 
     @Transactional
     public ResponseEntity<TokenDto> refreshToken(@Valid @RequestBody String accessToken, String refreshToken) {
-        RefreshToken findRefreshToken = refreshTokenRepository.findByAccessTokenAndRefreshToken(accessToken, refreshToken).orElseThrow(UserException::new);
+        RefreshToken findRefreshToken = refreshTokenRepository.findByTokenHashes(TokenDigest.sha256(accessToken), TokenDigest.sha256(refreshToken)).orElseThrow(UserException::new);
+
+        // 토큰마다 서명은 한 번만 확인한다.
+        ParsedToken parsedRefreshToken = tokenProvider.parseRefreshToken(refreshToken);
+        ParsedToken parsedAccessToken = tokenProvider.parseAccessToken(accessToken);
 
-        if(findRefreshToken.getUserId() != tokenProvider.getUserIdFromRefreshToken(refreshToken)){// userId가 다르면 fail
+        if(!parsedRefreshToken.isValid() || !findRefreshToken.getUserId().equals(parsedRefreshToken.getUserId())){// userId가 다르면 fail
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        if(!tokenProvider.isAccessTokenExpired(accessToken)){ //엑세스 토큰이 만료되지 않으면 fail
+        if(!parsedAccessToken.isExpired()){ //엑세스 토큰이 만료되지 않으면 fail
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        if(!tokenProvider.isOverRefreshTokenRenewalHour(refreshToken)){ //리프레시 토큰이 1시간 이상남지 않았으면 fail
+        if(!tokenProvider.isOverRefreshTokenRenewalHour(parsedRefreshToken.getClaims())){ //리프레시 토큰이 1시간 이상남지 않았으면 fail
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
@@ -113,11 +112,12 @@ public class AuthService {
         String newAccessToken = tokenProvider.createAccessTokenByUserEntity(user);
         String newRefreshToken = tokenProvider.createRefreshTokenByUserEntity(user);
 
+        verifiedTokenCache.deny(findRefreshToken.getAccessTokenHash()); // 교체되는 이전 액세스 토큰은 더 이상 받지 않는다.
         findRefreshToken.update(newAccessToken, newRefreshToken);
 
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add("Authorization", "Bearer " + newAccessToken);
 
-        return new ResponseEntity<>(new TokenDto("Bearer " + newAccessToken, refreshToken), httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(new TokenDto("Bearer " + newAccessToken, newRefreshToken), httpHeaders, HttpStatus.OK);
     }
 }
\ No newline at end of file
@@ -2,9 +2,24 @@ package com.challengers.cart.repository;
 
 import com.challengers.cart.domain.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart,Long> {
     Optional<Cart> findByChallengeIdAndUserId(Long challengeId, Long userId);
+
+    @Query("select c.challenge.id from Cart c where c.user.id = :userId and c.challenge.id in :challengeIds")
+    List<Long> findChallengeIdsByUserIdAndChallengeIdIn(@Param("userId") Long userId, @Param("challengeIds") Collection<Long> challengeIds);
+
+    @Query("select c.user.id from Cart c where c.challenge.id = :challengeId")
+    List<Long> findUserIdsByChallengeId(@Param("challengeId") Long challengeId);
+
+    @Modifying
+    @Query("delete from Cart c where c.challenge.id = :challengeId")
+    int deleteAllByChallengeId(@Param("challengeId") Long challengeId);
 }
@@ -8,6 +8,7 @@ import com.challengers.user.domain.User;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.NoSuchElementException;
 
@@ -18,6 +19,7 @@ public class CartService {
     private final UserRepository userRepository;
     private final ChallengeRepository challengeRepository;
 
+    @Transactional
     public void put(Long challengeId, Long userId) {
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(NoSuchElementException::new);
         User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
@@ -25,7 +27,7 @@ public class CartService {
         cartRepository.save(Cart.create(challenge,user));
     }
 
-
+    @Transactional
     public void takeOut(Long challengeId, Long userId) {
         Cart cart = cartRepository.findByChallengeIdAndUserId(challengeId,userId).orElseThrow(NoSuchElementException::new);
         if (!cart.getUser().getId().equals(userId))
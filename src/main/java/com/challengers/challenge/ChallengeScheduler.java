@@ -1,29 +1,45 @@
 package com.challengers.challenge;
 
-import com.challengers.challenge.domain.Challenge;
 import com.challengers.challenge.domain.ChallengeStatus;
 import com.challengers.challenge.domain.CheckFrequencyType;
 import com.challengers.challenge.repository.ChallengeRepository;
-import com.challengers.userchallenge.domain.UserChallenge;
-import com.challengers.userchallenge.repository.UserChallengeRepository;
+import com.challengers.notification.domain.NotificationType;
+import com.challengers.notification.dto.NotificationEvent;
+import com.challengers.notification.service.NotificationService;
+import com.challengers.userchallenge.dto.ChallengerDto;
+import com.challengers.userchallenge.service.UserChallengeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+/**
+ * 챌린지 상태 전이와 회차 갱신은 id 구간(CHUNK_SIZE) 단위의 bulk UPDATE 로 처리한다.
+ * 구간마다 별도의 트랜잭션으로 커밋되므로 챌린지 수가 늘어나도 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class ChallengeScheduler {
+    private static final long CHUNK_SIZE = 1000L;
+    private static final List<CheckFrequencyType> EVERY_DAY_TYPES = Collections.singletonList(CheckFrequencyType.EVERY_DAY);
+    private static final List<CheckFrequencyType> EVERY_WEEK_TYPES = Arrays.asList(CheckFrequencyType.OTHERS, CheckFrequencyType.EVERY_WEEK);
+
     private final ChallengeRepository challengeRepository;
-    private final UserChallengeRepository userChallengeRepository;
+    private final UserChallengeService userChallengeService;
+    private final NotificationService notificationService;
 
     //매일
     @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
     public void Everyday() {
         challengeStatusUpdateFromValidateToFinish();
         // TODO:성공한 유저들에게 포인트 지급해주어야 함
@@ -35,44 +51,86 @@ public class ChallengeScheduler {
         updateRoundEveryDay();
 
         // 월요일일 경우
-        if (LocalDate.now().getDayOfWeek().getValue() == 1)
+        if (isMonday())
             updateRoundEveryWeek();
     }
 
-    private void updateRoundEveryDay() {
-        challengeRepository.findAllByCheckFrequencyTypeInAndStatus(new ArrayList<>(Collections.singletonList(CheckFrequencyType.EVERY_DAY)),
-                ChallengeStatus.IN_PROGRESS).forEach(Challenge::updateRound);
+    private void toFail() {
+        List<CheckFrequencyType> endedRoundTypes = new ArrayList<>(EVERY_DAY_TYPES);
+        if (isMonday()) endedRoundTypes.addAll(EVERY_WEEK_TYPES);
+
+        LocalDate today = LocalDate.now();
+        String sweepId = UUID.randomUUID().toString();
+        int failed = userChallengeService.failProcess(today, endedRoundTypes, sweepId);
+        log.info("회차 인증 실패 처리 : {}건", failed);
+        if (failed == 0) return;
+
+        // 이번 실행에서 커밋된 실패 처리 결과(fail_sweep_id = sweepId)를 챌린지 id 구간 단위로 읽어 알린다.
+        updateInChunks((startId, endId) -> {
+            Map<Long, List<Long>> failedUserIdsByChallenge = userChallengeService.findFailedBySweep(sweepId, startId, endId).stream()
+                    .collect(Collectors.groupingBy(ChallengerDto::getChallengeId,
+                            Collectors.mapping(ChallengerDto::getUserId, Collectors.toList())));
+            failedUserIdsByChallenge.forEach((challengeId, userIds) -> notificationService.publish(NotificationEvent.builder()
+                    .type(NotificationType.CHALLENGE)
+                    .targetId(challengeId)
+                    .message("이번 회차 인증 횟수를 채우지 못해 챌린지에 실패했습니다.")
+                    .recipientIds(userIds)
+                    .build()));
+            return failedUserIdsByChallenge.size();
+        });
     }
 
-    private void updateRoundEveryWeek() {
-        challengeRepository.findAllByCheckFrequencyTypeInAndStatus(new ArrayList<>(Arrays.asList(CheckFrequencyType.OTHERS, CheckFrequencyType.EVERY_WEEK)),
-                ChallengeStatus.IN_PROGRESS).forEach(Challenge::updateRound);
+    private boolean isMonday() {
+        return LocalDate.now().getDayOfWeek().getValue() == 1;
     }
 
-    private void toFail() {
-        List<UserChallenge> failUserChallenge = userChallengeRepository.findAllFail();
-        Map<Challenge,Long> map = new ConcurrentHashMap<>();
-        for (UserChallenge userChallenge : failUserChallenge) {
-            userChallenge.fail();
-            map.put(userChallenge.getChallenge(),map.getOrDefault(userChallenge.getChallenge(), 0L) + 1);
-        }
-        for (Challenge challenge : map.keySet()) {
-            challenge.addFailedPoint(challenge.getDepositPoint()*map.get(challenge));
-        }
+    private void updateRoundEveryDay() {
+        int updated = updateInChunks((startId, endId) ->
+                challengeRepository.increaseRound(EVERY_DAY_TYPES, ChallengeStatus.IN_PROGRESS, startId, endId));
+        log.info("매일 인증 챌린지 회차 갱신 : {}건", updated);
+    }
+
+    private void updateRoundEveryWeek() {
+        int updated = updateInChunks((startId, endId) ->
+                challengeRepository.increaseRound(EVERY_WEEK_TYPES, ChallengeStatus.IN_PROGRESS, startId, endId));
+        log.info("주간 인증 챌린지 회차 갱신 : {}건", updated);
     }
 
     private void challengeStatusUpdateFromReadyToInProgress() {
         LocalDate now = LocalDate.now();
-        challengeRepository.findAllByStartDate(now).forEach(Challenge::toInProgress);
+        int updated = updateInChunks((startId, endId) -> challengeRepository.updateStatusByStartDate(
+                now, ChallengeStatus.READY, ChallengeStatus.IN_PROGRESS, startId, endId));
+        log.info("챌린지 상태 변경 READY -> IN_PROGRESS : {}건", updated);
     }
 
     private void challengeStatusUpdateFromInProgressToValidate() {
         LocalDate now = LocalDate.now();
-        challengeRepository.findAllByEndDate(now).forEach(Challenge::toValidate);
+        int updated = updateInChunks((startId, endId) -> challengeRepository.updateStatusByEndDate(
+                now, ChallengeStatus.IN_PROGRESS, ChallengeStatus.VALIDATE, startId, endId));
+        log.info("챌린지 상태 변경 IN_PROGRESS -> VALIDATE : {}건", updated);
     }
 
     private void challengeStatusUpdateFromValidateToFinish() {
         LocalDate validateStartDate = LocalDate.now().minusDays(7);
-        challengeRepository.findAllByEndDate(validateStartDate).forEach(Challenge::toFinish);
+        int updated = updateInChunks((startId, endId) -> challengeRepository.updateStatusByEndDate(
+                validateStartDate, ChallengeStatus.VALIDATE, ChallengeStatus.FINISH, startId, endId));
+        log.info("챌린지 상태 변경 VALIDATE -> FINISH : {}건", updated);
+    }
+
+    private int updateInChunks(ChunkUpdate chunkUpdate) {
+        Long minId = challengeRepository.findMinId();
+        Long maxId = challengeRepository.findMaxId();
+        if (minId == null || maxId == null) return 0;
+
+        int updated = 0;
+        for (long startId = minId; startId <= maxId; startId += CHUNK_SIZE) {
+            updated += chunkUpdate.update(startId, startId + CHUNK_SIZE - 1);
+        }
+        return updated;
+    }
+
+    @FunctionalInterface
+    private interface ChunkUpdate {
+        int update(Long startId, Long endId);
     }
 }
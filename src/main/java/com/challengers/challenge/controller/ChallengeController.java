@@ -3,6 +3,7 @@ package com.challengers.challenge.controller;
 import com.challengers.challenge.dto.ChallengeRequest;
 import com.challengers.challenge.dto.ChallengeDetailResponse;
 import com.challengers.challenge.dto.ChallengeResponse;
+import com.challengers.challenge.dto.ChallengeSliceResponse;
 import com.challengers.challenge.dto.ChallengeUpdateRequest;
 import com.challengers.challenge.service.ChallengeService;
 import com.challengers.security.CurrentUser;
@@ -37,6 +38,14 @@ public class ChallengeController {
         return ResponseEntity.ok(challengeService.findReadyOrInProgressChallenges(pageable, userId));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ChallengeSliceResponse> findCanJoinChallengesByCursor(@RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "6") int size,
+                                                                                 @CurrentUser UserPrincipal user) {
+        Long userId = user == null ? null : user.getId();
+        return ResponseEntity.ok(challengeService.findReadyOrInProgressChallengesByCursor(cursor, size, userId));
+    }
+
     @PostMapping
     public ResponseEntity<Void> createChallenge(@Valid @ModelAttribute ChallengeRequest challengeRequest,
                                           @CurrentUser UserPrincipal user) {
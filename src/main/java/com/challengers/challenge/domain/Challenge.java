@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_challenge_status_id", columnList = "status, challenge_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Challenge extends BaseTimeEntity {
     @Setter @Id @GeneratedValue
@@ -27,6 +28,7 @@ public class Challenge extends BaseTimeEntity {
 
     private String name;
     private String imageUrl;
+    private String thumbnailUrl;
     private String photoDescription;
     private String challengeRule;
     private CheckFrequencyType checkFrequencyType;
@@ -113,10 +115,15 @@ public class Challenge extends BaseTimeEntity {
     }
 
     public void update(String imageUrl, String introduction) {
+        if (!imageUrl.equals(this.imageUrl)) thumbnailUrl = null;
         this.imageUrl = imageUrl;
         this.introduction = introduction;
     }
 
+    public String getThumbnailOrImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
     public void setHost(User host) {
         this.host = host;
     }
@@ -125,10 +132,6 @@ public class Challenge extends BaseTimeEntity {
         this.imageUrl = imageUrl;
     }
 
-    public void joinUser() {
-        this.userCount++;
-    }
-
     public void addReviewRelation(Float starRating) {
         reviewCount++;
         totalStarRating += starRating;
@@ -146,18 +149,6 @@ public class Challenge extends BaseTimeEntity {
         updateStarRating();
     }
 
-    public void toInProgress() {
-        status = ChallengeStatus.IN_PROGRESS;
-    }
-
-    public void toValidate() {
-        this.status = ChallengeStatus.VALIDATE;
-    }
-
-    public void toFinish() {
-        this.status = ChallengeStatus.FINISH;
-    }
-
     private void updateStarRating() {
         starRating = reviewCount == 0 ? 0.0f : Math.round(totalStarRating/reviewCount*10)/10.0f;
     }
@@ -169,12 +160,4 @@ public class Challenge extends BaseTimeEntity {
             round = 1;
         }
     }
-
-    public void updateRound() {
-        round++;
-    }
-
-    public void addFailedPoint(long point) {
-        failedPoint += point;
-    }
 }
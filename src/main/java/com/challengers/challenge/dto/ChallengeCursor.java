@@ -0,0 +1,52 @@
+package com.challengers.challenge.dto;
+
+import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.domain.ChallengeStatus;
+import com.challengers.common.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (status, challengeId) 기준의 키셋 페이지네이션 커서.
+ * 클라이언트에는 Base64로 인코딩된 불투명한 문자열로 전달된다.
+ * 참여 가능한 챌린지(READY, IN_PROGRESS)만 가리킬 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChallengeCursor {
+    private static final String DELIMITER = ":";
+
+    private int status;
+    private Long challengeId;
+
+    public static ChallengeCursor first() {
+        return new ChallengeCursor(ChallengeStatus.READY.ordinal(), Long.MAX_VALUE);
+    }
+
+    public static ChallengeCursor of(Challenge challenge) {
+        return new ChallengeCursor(challenge.getStatus().ordinal(), challenge.getId());
+    }
+
+    public static ChallengeCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) return first();
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+            int status = Integer.parseInt(values[0]);
+            if (status < ChallengeStatus.READY.ordinal() || status > ChallengeStatus.IN_PROGRESS.ordinal()) {
+                throw new BadRequestException("잘못된 커서(" + cursor + ") 입니다.");
+            }
+            return new ChallengeCursor(status, Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 형식의 커서(" + cursor + ") 입니다.", e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((status + DELIMITER + challengeId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -15,6 +15,7 @@ import java.util.List;
 public class ChallengeResponse {
     private Long challengeId;
     private String name;
+    private String thumbnailUrl;
     private String category;
     private List<String> tags;
     private String createdDate;
@@ -25,6 +26,7 @@ public class ChallengeResponse {
     public ChallengeResponse(Challenge challenge, boolean cart, List<Long> challengersIds) {
         challengeId = challenge.getId();
         name = challenge.getName();
+        thumbnailUrl = challenge.getThumbnailOrImageUrl();
         category = challenge.getCategory().toString();
         tags = challenge.getChallengeTags().getStringTags();
         createdDate = challenge.getCreatedDateYYYYMMDD();
@@ -0,0 +1,16 @@
+package com.challengers.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeSliceResponse {
+    private List<ChallengeResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -6,20 +6,65 @@ import com.challengers.challenge.domain.CheckFrequencyType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 
 public interface ChallengeRepository extends JpaRepository<Challenge,Long> {
-    List<Challenge> findAllByStartDate(LocalDate startDate);
-    List<Challenge> findAllByEndDate(LocalDate EndDate);
+    @Query("select min(c.id) from Challenge c")
+    Long findMinId();
 
-    List<Challenge> findAllByCheckFrequencyTypeInAndStatus(Collection<CheckFrequencyType> checkFrequencyType, ChallengeStatus status);
+    @Query("select max(c.id) from Challenge c")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("update Challenge c set c.status = :to " +
+            "where c.startDate = :startDate and c.status = :from and c.id between :startId and :endId")
+    int updateStatusByStartDate(@Param("startDate") LocalDate startDate,
+                                @Param("from") ChallengeStatus from, @Param("to") ChallengeStatus to,
+                                @Param("startId") Long startId, @Param("endId") Long endId);
+
+    @Transactional
+    @Modifying
+    @Query("update Challenge c set c.status = :to " +
+            "where c.endDate = :endDate and c.status = :from and c.id between :startId and :endId")
+    int updateStatusByEndDate(@Param("endDate") LocalDate endDate,
+                              @Param("from") ChallengeStatus from, @Param("to") ChallengeStatus to,
+                              @Param("startId") Long startId, @Param("endId") Long endId);
+
+    @Transactional
+    @Modifying
+    @Query("update Challenge c set c.round = c.round + 1 " +
+            "where c.checkFrequencyType in :checkFrequencyTypes and c.status = :status and c.id between :startId and :endId")
+    int increaseRound(@Param("checkFrequencyTypes") Collection<CheckFrequencyType> checkFrequencyTypes,
+                      @Param("status") ChallengeStatus status,
+                      @Param("startId") Long startId, @Param("endId") Long endId);
 
     @Query(value = "select * from Challenge c where c.status=0 or c.status=1",
             countQuery = "select count(*) from Challenge c where c.status=0 or c.status=1",
             nativeQuery = true)
     Page<Challenge> findReadyOrInProgressChallenges(Pageable pageable);
+
+    @Query(value = "select * from challenge c " +
+            "where (c.status = :status and c.status <= 1 and c.challenge_id < :challengeId) or (c.status > :status and c.status <= 1) " +
+            "order by c.status asc, c.challenge_id desc limit :size",
+            nativeQuery = true)
+    List<Challenge> findReadyOrInProgressChallengesAfter(@Param("status") int status,
+                                                         @Param("challengeId") Long challengeId,
+                                                         @Param("size") int size);
+
+    @Modifying
+    @Query("update Challenge c set c.userCount = c.userCount + 1 where c.id = :challengeId and c.userCount < c.userCountLimit")
+    int increaseUserCountIfNotFull(@Param("challengeId") Long challengeId);
+
+    @Transactional
+    @Modifying
+    @Query("update Challenge c set c.thumbnailUrl = :thumbnailUrl where c.id = :challengeId")
+    int updateThumbnailUrl(@Param("challengeId") Long challengeId, @Param("thumbnailUrl") String thumbnailUrl);
 }
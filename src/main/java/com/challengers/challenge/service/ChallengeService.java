@@ -2,14 +2,21 @@ package com.challengers.challenge.service;
 
 import com.challengers.cart.repository.CartRepository;
 import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.dto.ChallengeCursor;
 import com.challengers.challenge.dto.ChallengeDetailResponse;
 import com.challengers.challenge.dto.ChallengeRequest;
 import com.challengers.challenge.dto.ChallengeResponse;
+import com.challengers.challenge.dto.ChallengeSliceResponse;
 import com.challengers.challenge.dto.ChallengeUpdateRequest;
 import com.challengers.challenge.repository.ChallengeRepository;
 import com.challengers.challengetag.domain.ChallengeTag;
 import com.challengers.common.AwsS3Uploader;
+import com.challengers.common.ImageThumbnailGenerator;
+import com.challengers.common.exception.BadRequestException;
 import com.challengers.examplephoto.repository.ExamplePhotoRepository;
+import com.challengers.notification.domain.NotificationType;
+import com.challengers.notification.dto.NotificationEvent;
+import com.challengers.notification.service.NotificationService;
 import com.challengers.tag.domain.Tag;
 import com.challengers.tag.repository.TagRepository;
 import com.challengers.user.domain.Achievement;
@@ -17,23 +24,30 @@ import com.challengers.user.domain.Award;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.AchievementRepository;
 import com.challengers.user.repository.UserRepository;
+import com.challengers.userchallenge.ChallengeJoinAdmission;
 import com.challengers.userchallenge.ChallengeJoinManager;
 import com.challengers.userchallenge.domain.UserChallenge;
 import com.challengers.userchallenge.domain.UserChallengeStatus;
+import com.challengers.userchallenge.dto.ChallengerDto;
 import com.challengers.userchallenge.repository.UserChallengeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ChallengeService {
+    private static final int MAX_CHALLENGE_SLICE_SIZE = 50;
+    private static final String DEFAULT_CHALLENGE_IMAGE_URL = "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/challengeDefaultImage.jpg";
+
     private final ChallengeRepository challengeRepository;
     private final AchievementRepository achievementRepository;
     private final TagRepository tagRepository;
@@ -42,32 +56,53 @@ public class ChallengeService {
     private final UserChallengeRepository userChallengeRepository;
     private final AwsS3Uploader awsS3Uploader;
     private final CartRepository cartRepository;
+    private final ChallengeJoinAdmission challengeJoinAdmission;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageThumbnailGenerator imageThumbnailGenerator;
+    private final NotificationService notificationService;
 
 
-    @Transactional
+    /**
+     * 이미지 업로드는 트랜잭션 밖에서 병렬로 먼저 끝내고, DB 반영에 실패하면 업로드한 이미지를 삭제한다.
+     */
     public Long create(ChallengeRequest challengeRequest, Long userId) {
-        User host = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
-        // host의 포인트를 예치포인트만큼 감소시켜야함
-        // challenge 시작일, 종료일이 올바르지 않을 경우 에러 반환시켜야함
+        // 없는 사용자의 요청이면 업로드하지 않는다.
+        if (!userRepository.existsById(userId)) throw new NoSuchElementException();
+
+        List<MultipartFile> images = new ArrayList<>();
+        if (challengeRequest.getImage() != null) images.add(challengeRequest.getImage());
+        images.addAll(challengeRequest.getExamplePhotos());
+        List<String> uploadedUrls = awsS3Uploader.uploadImages(images);
 
-        String imageUrl = "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/challengeDefaultImage.jpg";
-        if (challengeRequest.getImage() != null)
-            imageUrl = awsS3Uploader.uploadImage(challengeRequest.getImage());
-        List<String> examplePhotoUrls = awsS3Uploader.uploadImages(challengeRequest.getExamplePhotos());
+        String imageUrl = challengeRequest.getImage() != null ? uploadedUrls.get(0) : DEFAULT_CHALLENGE_IMAGE_URL;
+        List<String> examplePhotoUrls = uploadedUrls.subList(challengeRequest.getImage() != null ? 1 : 0, uploadedUrls.size());
 
-        Challenge challenge = Challenge.create(challengeRequest, host, imageUrl, examplePhotoUrls);
-        challengeRepository.save(challenge);
+        try {
+            return transactionTemplate.execute(status -> {
+                User host = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
+                // host의 포인트를 예치포인트만큼 감소시켜야함
+                // challenge 시작일, 종료일이 올바르지 않을 경우 에러 반환시켜야함
 
-        challengeRequest.getTags()
-                .forEach(tag -> ChallengeTag.associate(challenge,findOrCreateTag(tag)));
+                Challenge challenge = Challenge.create(challengeRequest, host, imageUrl, new ArrayList<>(examplePhotoUrls));
+                challengeRepository.save(challenge);
+                if (challengeRequest.getImage() != null)
+                    generateThumbnail(challenge.getId(), imageUrl);
 
-        userChallengeRepository.save(UserChallenge.create(challenge,host));
+                challengeRequest.getTags()
+                        .forEach(tag -> ChallengeTag.associate(challenge,findOrCreateTag(tag)));
 
-        host.update(host.getChallengeCount() + 1);
+                userChallengeRepository.save(UserChallenge.create(challenge,host));
 
-        updateChallengeAchievement(host);
+                host.update(host.getChallengeCount() + 1);
 
-        return challenge.getId();
+                updateChallengeAchievement(host);
+
+                return challenge.getId();
+            });
+        } catch (RuntimeException e) {
+            awsS3Uploader.deleteUploadedImages(uploadedUrls);
+            throw e;
+        }
     }
 
     @Transactional
@@ -78,12 +113,19 @@ public class ChallengeService {
         String imageUrl = challenge.getImageUrl();
         if (challengeUpdateRequest.getImage()!=null) {
             awsS3Uploader.deleteImage(challenge.getImageUrl());
+            if (challenge.getThumbnailUrl() != null) awsS3Uploader.deleteImage(challenge.getThumbnailUrl());
             imageUrl = awsS3Uploader.uploadImage(challengeUpdateRequest.getImage());
+            generateThumbnail(challengeId, imageUrl);
         }
 
         challenge.update(imageUrl,challengeUpdateRequest.getIntroduction());
     }
 
+    private void generateThumbnail(Long challengeId, String imageUrl) {
+        imageThumbnailGenerator.generateAfterCommit(imageUrl,
+                thumbnailUrl -> challengeRepository.updateThumbnailUrl(challengeId, thumbnailUrl));
+    }
+
     @Transactional
     public void delete(Long challengeId, Long userId) {
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(NoSuchElementException::new);
@@ -91,12 +133,23 @@ public class ChallengeService {
         if (!userChallengeRepository.countByChallengeId(challengeId).equals(1L)) throw new RuntimeException("삭제 조건에 부합하지 않음 - 챌린지 참여자가 2명 이상 있음");
 
         awsS3Uploader.deleteImage(challenge.getImageUrl());
+        if (challenge.getThumbnailUrl() != null) awsS3Uploader.deleteImage(challenge.getThumbnailUrl());
         awsS3Uploader.deleteImages(challenge.getExamplePhotoUrls());
         UserChallenge userChallenge = userChallengeRepository.findByUserIdAndChallengeId(challenge.getHost().getId(), challengeId).orElseThrow(NoSuchElementException::new);
 
         userChallengeRepository.delete(userChallenge);
 
-        //찜한 사람이 있는 경우 찜목록에서 삭제시키고 알림 보내야함
+        // 찜한 사람이 있는 경우 찜목록에서 삭제하고, 커밋된 뒤 알림을 보낸다.
+        List<Long> cartUserIds = cartRepository.findUserIdsByChallengeId(challengeId);
+        if (!cartUserIds.isEmpty()) {
+            cartRepository.deleteAllByChallengeId(challengeId);
+            notificationService.publish(NotificationEvent.builder()
+                    .type(NotificationType.CHALLENGE)
+                    .senderId(userId)
+                    .message("찜한 '" + challenge.getName() + "' 챌린지가 삭제되었습니다.")
+                    .recipientIds(cartUserIds)
+                    .build());
+        }
 
         challengeRepository.delete(challenge);
     }
@@ -105,13 +158,8 @@ public class ChallengeService {
     public ChallengeDetailResponse findChallenge(Long challengeId, Long userId) {
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(NoSuchElementException::new);
 
-        List<UserChallenge> userChallenges = userChallengeRepository
-                .findByChallengeIdAndStatus(challengeId, UserChallengeStatus.IN_PROGRESS);
-        long progress = 0L;
-
-        for (UserChallenge userChallenge : userChallenges) {
-            progress += userChallenge.getMaxProgress();
-        }
+        long progress = userChallengeRepository
+                .sumMaxProgressByChallengeIdAndStatus(challengeId, UserChallengeStatus.IN_PROGRESS);
         int maxProgress = ChallengeJoinManager.getMaxProgress(challenge);
 
         return ChallengeDetailResponse.of(challenge,
@@ -122,7 +170,7 @@ public class ChallengeService {
     @Transactional
     public void join(Long challengeId, Long userId) {
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(NoSuchElementException::new);
-        if (challenge.getUserCount() == challenge.getUserCountLimit())
+        if (challenge.getUserCount() >= challenge.getUserCountLimit())
             throw new RuntimeException("참여 인원이 가득 찼습니다.");
 
         User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
@@ -133,20 +181,51 @@ public class ChallengeService {
             throw new RuntimeException(
                     "다음주 월요일까지 남은 일 수 보다 일주일에 인증해야 하는 횟수가 많기때문에 다음 주에 참여해야 합니다.");
 
-        challenge.joinUser();
         updateChallengeAchievement(user);
-
         userChallengeRepository.save(UserChallenge.create(challenge, user));
+
+        challengeJoinAdmission.reserveSeat(challengeId);
     }
 
     @Transactional(readOnly = true)
     public Page<ChallengeResponse> findReadyOrInProgressChallenges(Pageable pageable, Long userId) {
-        return challengeRepository.findReadyOrInProgressChallenges(pageable).map(challenge -> new ChallengeResponse(challenge,
-                userId != null && cartRepository.findByChallengeIdAndUserId(challenge.getId(), userId).isPresent(),
-                userChallengeRepository.findByChallengeId(challenge.getId())
-                        .stream().map(userChallenge -> userChallenge.getUser().getId())
-                        .collect(Collectors.toList())
-                ));
+        Page<Challenge> challenges = challengeRepository.findReadyOrInProgressChallenges(pageable);
+        return new PageImpl<>(toChallengeResponses(challenges.getContent(), userId),
+                challenges.getPageable(), challenges.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public ChallengeSliceResponse findReadyOrInProgressChallengesByCursor(String cursor, int size, Long userId) {
+        if (size < 1 || size > MAX_CHALLENGE_SLICE_SIZE)
+            throw new BadRequestException("조회 개수는 1 이상 " + MAX_CHALLENGE_SLICE_SIZE + " 이하여야 합니다.");
+
+        ChallengeCursor challengeCursor = ChallengeCursor.decode(cursor);
+        List<Challenge> challenges = challengeRepository.findReadyOrInProgressChallengesAfter(
+                challengeCursor.getStatus(), challengeCursor.getChallengeId(), size + 1);
+
+        boolean hasNext = challenges.size() > size;
+        if (hasNext) challenges = challenges.subList(0, size);
+        String nextCursor = hasNext ? ChallengeCursor.of(challenges.get(size - 1)).encode() : null;
+
+        return new ChallengeSliceResponse(toChallengeResponses(challenges, userId), nextCursor, hasNext);
+    }
+
+    private List<ChallengeResponse> toChallengeResponses(List<Challenge> challenges, Long userId) {
+        if (challenges.isEmpty()) return new ArrayList<>();
+        List<Long> challengeIds = challenges.stream().map(Challenge::getId).collect(Collectors.toList());
+
+        Set<Long> cartChallengeIds = userId == null ? Collections.emptySet()
+                : new HashSet<>(cartRepository.findChallengeIdsByUserIdAndChallengeIdIn(userId, challengeIds));
+        Map<Long, List<Long>> challengersIds = userChallengeRepository.findChallengersByChallengeIdIn(challengeIds)
+                .stream()
+                .collect(Collectors.groupingBy(ChallengerDto::getChallengeId,
+                        Collectors.mapping(ChallengerDto::getUserId, Collectors.toList())));
+
+        return challenges.stream()
+                .map(challenge -> new ChallengeResponse(challenge,
+                        cartChallengeIds.contains(challenge.getId()),
+                        challengersIds.getOrDefault(challenge.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 
     private void updateChallengeAchievement(User user){
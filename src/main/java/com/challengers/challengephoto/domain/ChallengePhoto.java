@@ -10,6 +10,7 @@ import javax.persistence.*;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_challenge_photo_user_id", columnList = "user_id, challenge_photo_id"))
 @NoArgsConstructor
 public class ChallengePhoto {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +27,12 @@ public class ChallengePhoto {
 
     private String photoUrl;
 
+    private String thumbnailUrl;
+
+    private long likeCount;
+
+    private long commentCount;
+
     @Builder
     public ChallengePhoto(Long id, Challenge challenge, User user, String photoUrl) {
         this.id = id;
@@ -41,4 +48,8 @@ public class ChallengePhoto {
                 .photoUrl(photoUrl)
                 .build();
     }
+
+    public String getThumbnailOrPhotoUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : photoUrl;
+    }
 }
@@ -5,7 +5,82 @@ import com.challengers.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ChallengePhotoRepository extends JpaRepository<ChallengePhoto,Long> {
     Page<ChallengePhoto> findAllByUser(Pageable pageable, User user);
+
+    @Query(value = "select cp from ChallengePhoto cp join fetch cp.user join fetch cp.challenge",
+            countQuery = "select count(cp) from ChallengePhoto cp")
+    Page<ChallengePhoto> findAllWithUserAndChallenge(Pageable pageable);
+
+    @Query(value = "select cp from ChallengePhoto cp join fetch cp.user join fetch cp.challenge where cp.user = :user",
+            countQuery = "select count(cp) from ChallengePhoto cp where cp.user = :user")
+    Page<ChallengePhoto> findAllWithUserAndChallengeByUser(Pageable pageable, @Param("user") User user);
+
+    @Query(value = "select cp from ChallengePhoto cp join fetch cp.user join fetch cp.challenge " +
+            "where cp.user.id in (select f.fromUser from Follow f where f.toUser = :userId)",
+            countQuery = "select count(cp) from ChallengePhoto cp " +
+                    "where cp.user.id in (select f.fromUser from Follow f where f.toUser = :userId)")
+    Page<ChallengePhoto> findAllFollowingWithUserAndChallenge(Pageable pageable, @Param("userId") Long userId);
+
+    @Query("select cp from ChallengePhoto cp join fetch cp.user join fetch cp.challenge " +
+            "where cp.user.id in :userIds and cp.id < :cursor order by cp.id desc")
+    List<ChallengePhoto> findAllByUserIdInAndIdLessThan(@Param("userIds") Collection<Long> userIds,
+                                                        @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select cp.id from ChallengePhoto cp " +
+            "where cp.user.id in (select f.fromUser from Follow f where f.toUser = :userId) order by cp.id desc")
+    List<Long> findFollowingIds(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select cp.id from ChallengePhoto cp where cp.user.id in :userIds and cp.id < :cursor order by cp.id desc")
+    List<Long> findIdsByUserIdInAndIdLessThan(@Param("userIds") Collection<Long> userIds,
+                                              @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select cp from ChallengePhoto cp join fetch cp.user join fetch cp.challenge " +
+            "where cp.id in :challengePhotoIds order by cp.id desc")
+    List<ChallengePhoto> findAllWithUserAndChallengeByIdIn(@Param("challengePhotoIds") Collection<Long> challengePhotoIds);
+
+    @Query("select cp from ChallengePhoto cp join fetch cp.user join fetch cp.challenge where cp.id = :challengePhotoId")
+    Optional<ChallengePhoto> findWithUserAndChallengeById(@Param("challengePhotoId") Long challengePhotoId);
+
+    @Query("select min(cp.id) from ChallengePhoto cp")
+    Long findMinId();
+
+    @Query("select max(cp.id) from ChallengePhoto cp")
+    Long findMaxId();
+
+    @Modifying
+    @Query("update ChallengePhoto cp set cp.commentCount = cp.commentCount + 1 where cp.id = :challengePhotoId")
+    int increaseCommentCount(@Param("challengePhotoId") Long challengePhotoId);
+
+    @Modifying
+    @Query("update ChallengePhoto cp set cp.commentCount = cp.commentCount - 1 where cp.id = :challengePhotoId and cp.commentCount > 0")
+    int decreaseCommentCount(@Param("challengePhotoId") Long challengePhotoId);
+
+    /**
+     * id 구간 안에서 실제 좋아요/댓글 수와 다른 카운터만 다시 계산한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update challenge_photo cp " +
+            "set like_count = (select count(*) from likes l where l.challenge_photo_id = cp.challenge_photo_id), " +
+            "comment_count = (select count(*) from comment c where c.challenge_photo_id = cp.challenge_photo_id) " +
+            "where cp.challenge_photo_id between :startId and :endId " +
+            "and (cp.like_count <> (select count(*) from likes l where l.challenge_photo_id = cp.challenge_photo_id) " +
+            "or cp.comment_count <> (select count(*) from comment c where c.challenge_photo_id = cp.challenge_photo_id))",
+            nativeQuery = true)
+    int reconcileCounts(@Param("startId") Long startId, @Param("endId") Long endId);
+
+    @Transactional
+    @Modifying
+    @Query("update ChallengePhoto cp set cp.thumbnailUrl = :thumbnailUrl where cp.id = :challengePhotoId")
+    int updateThumbnailUrl(@Param("challengePhotoId") Long challengePhotoId, @Param("thumbnailUrl") String thumbnailUrl);
 }
@@ -6,12 +6,14 @@ import com.challengers.challengephoto.domain.ChallengePhoto;
 import com.challengers.challengephoto.dto.ChallengePhotoRequest;
 import com.challengers.challengephoto.repository.ChallengePhotoRepository;
 import com.challengers.common.AwsS3Uploader;
+import com.challengers.common.ImageThumbnailGenerator;
+import com.challengers.feed.service.FeedTimelineService;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.NoSuchElementException;
 
 @Service
@@ -21,12 +23,23 @@ public class ChallengePhotoService {
     private final ChallengeRepository challengeRepository;
     private final UserRepository userRepository;
     private final AwsS3Uploader awsS3Uploader;
+    private final ImageThumbnailGenerator imageThumbnailGenerator;
+    private final FeedTimelineService feedTimelineService;
 
-    @Transactional
+    // 업로드하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회 -> 업로드 -> 저장 순서로 처리한다.
     public void upload(ChallengePhotoRequest challengePhotoRequest, Long challengeId, Long userId) {
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(NoSuchElementException::new);
         User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
         String photoUrl = awsS3Uploader.uploadImage(challengePhotoRequest.getPhoto());
-        challengePhotoRepository.save(ChallengePhoto.create(challenge,user,photoUrl));
+        ChallengePhoto challengePhoto;
+        try {
+            challengePhoto = challengePhotoRepository.save(ChallengePhoto.create(challenge,user,photoUrl));
+        } catch (RuntimeException e) {
+            awsS3Uploader.deleteUploadedImages(Collections.singletonList(photoUrl));
+            throw e;
+        }
+        imageThumbnailGenerator.generateAfterCommit(photoUrl,
+                thumbnailUrl -> challengePhotoRepository.updateThumbnailUrl(challengePhoto.getId(), thumbnailUrl));
+        feedTimelineService.fanOutAfterCommit(userId, challengePhoto.getId());
     }
 }
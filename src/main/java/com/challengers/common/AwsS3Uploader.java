@@ -5,29 +5,52 @@ import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class AwsS3Uploader {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
     private final AmazonS3 amazonS3;
+    private final Executor s3UploadExecutor;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final long multipartThreshold;
+
+    public AwsS3Uploader(AmazonS3 amazonS3,
+                         @Qualifier("s3UploadExecutor") Executor s3UploadExecutor,
+                         S3MultipartUploader s3MultipartUploader,
+                         @Value("${cloud.aws.s3.multipart.threshold:16MB}") DataSize multipartThreshold) {
+        this.amazonS3 = amazonS3;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.s3MultipartUploader = s3MultipartUploader;
+        this.multipartThreshold = multipartThreshold.toBytes();
+    }
 
     public String uploadImage(MultipartFile multipartFile) {
         String fileName = createFileName(multipartFile.getOriginalFilename());
+        if (multipartFile.getSize() >= multipartThreshold) {
+            s3MultipartUploader.upload(bucket, fileName, multipartFile);
+            return amazonS3.getUrl(bucket, fileName).toString();
+        }
+
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentLength(multipartFile.getSize());
         objectMetadata.setContentType(multipartFile.getContentType());
@@ -42,12 +65,29 @@ public class AwsS3Uploader {
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
+    /**
+     * 파일들을 s3UploadExecutor 에서 병렬로 업로드하고, 요청한 순서대로 URL 을 반환한다.
+     * 하나라도 실패하면 이미 올라간 파일들을 삭제하고 예외를 던진다.
+     */
     public List<String> uploadImages(List<MultipartFile> multipartFile) {
-        List<String> fileNameList = new ArrayList<>();
+        List<CompletableFuture<String>> uploads = multipartFile.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadImage(file), s3UploadExecutor))
+                .collect(Collectors.toList());
 
-        multipartFile.forEach(file -> fileNameList.add(uploadImage(file)));
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            deleteUploadedImages(uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList()));
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
 
-        return fileNameList;
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
     }
 
     public void deleteImage(String fileUrl) {
@@ -60,6 +100,19 @@ public class AwsS3Uploader {
         }
     }
 
+    /**
+     * DB 반영에 실패해 고아가 된 업로드 파일을 정리한다. 정리 실패가 원래 예외를 가리지 않도록 로그만 남긴다.
+     */
+    public void deleteUploadedImages(List<String> fileUrls) {
+        for (String storedFileUrl : fileUrls) {
+            try {
+                deleteImage(storedFileUrl);
+            } catch (RuntimeException e) {
+                log.warn("업로드 파일 정리 실패 : {}", storedFileUrl, e);
+            }
+        }
+    }
+
     public String extractStoreFileName(String storeFileUrl) {
         int pos = storeFileUrl.lastIndexOf("/");
         return storeFileUrl.substring(pos + 1);
@@ -0,0 +1,166 @@
+package com.challengers.common;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 업로드된 원본 이미지로 목록/피드용 JPEG 썸네일을 만든다.
+ * 썸네일 생성에 실패하거나 아직 만들어지지 않았다면 응답에서는 원본 URL 을 대신 사용한다.
+ */
+@Slf4j
+@Component
+public class ImageThumbnailGenerator {
+    private static final String THUMBNAIL_PREFIX = "thumb_";
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final AmazonS3 amazonS3;
+    private final AwsS3Uploader awsS3Uploader;
+    private final Executor imageProcessingExecutor;
+    private final int thumbnailWidth;
+    private final float jpegQuality;
+
+    public ImageThumbnailGenerator(AmazonS3 amazonS3, AwsS3Uploader awsS3Uploader,
+                                   @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+                                   @Value("${app.image.thumbnail-width:480}") int thumbnailWidth,
+                                   @Value("${app.image.jpeg-quality:0.8}") float jpegQuality) {
+        this.amazonS3 = amazonS3;
+        this.awsS3Uploader = awsS3Uploader;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.thumbnailWidth = thumbnailWidth;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 썸네일을 만들어 S3 에 올린 뒤 onCreated 로 썸네일 URL 을 넘긴다.
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 시작하며, 작업은 imageProcessingExecutor 에서 실행된다.
+     */
+    public void generateAfterCommit(String originalUrl, Consumer<String> onCreated) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(originalUrl, onCreated);
+                }
+            });
+            return;
+        }
+        submit(originalUrl, onCreated);
+    }
+
+    private void submit(String originalUrl, Consumer<String> onCreated) {
+        try {
+            imageProcessingExecutor.execute(() -> generate(originalUrl, onCreated));
+        } catch (RejectedExecutionException e) {
+            log.warn("썸네일 생성 대기열이 가득 차 건너뜁니다 : {}", originalUrl);
+        }
+    }
+
+    void generate(String originalUrl, Consumer<String> onCreated) {
+        String originalKey = awsS3Uploader.extractStoreFileName(originalUrl);
+        String thumbnailKey = THUMBNAIL_PREFIX + removeExtension(originalKey) + ".jpg";
+
+        byte[] thumbnail;
+        try (S3Object original = amazonS3.getObject(bucket, originalKey);
+             InputStream inputStream = original.getObjectContent()) {
+            BufferedImage image = ImageIO.read(inputStream);
+            if (image == null) {
+                log.warn("썸네일을 만들 수 없는 이미지 형식입니다 : {}", originalUrl);
+                return;
+            }
+            thumbnail = toJpeg(resize(image, thumbnailWidth), jpegQuality);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패 : {}", originalUrl, e);
+            return;
+        }
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(thumbnail.length);
+        objectMetadata.setContentType("image/jpeg");
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucket, thumbnailKey, new ByteArrayInputStream(thumbnail), objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            onCreated.accept(amazonS3.getUrl(bucket, thumbnailKey).toString());
+        } catch (RuntimeException e) {
+            log.warn("썸네일 저장 실패 : {}", originalUrl, e);
+            awsS3Uploader.deleteUploadedImages(Collections.singletonList(thumbnailKey));
+        }
+    }
+
+    /**
+     * 가로 maxWidth 이하로 비율을 유지하며 줄인다. 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나눠 줄인다.
+     * 투명한 배경은 JPEG 로 저장할 수 있도록 흰색으로 채운다.
+     */
+    static BufferedImage resize(BufferedImage original, int maxWidth) {
+        int targetWidth = Math.min(original.getWidth(), maxWidth);
+        int targetHeight = Math.max(1, (int) Math.round(original.getHeight() * (double) targetWidth / original.getWidth()));
+
+        BufferedImage current = original;
+        int width = original.getWidth();
+        int height = original.getHeight();
+        do {
+            width = Math.max(width / 2, targetWidth);
+            height = Math.max(height / 2, targetHeight);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private String removeExtension(String fileName) {
+        int pos = fileName.lastIndexOf(".");
+        return pos < 0 ? fileName : fileName.substring(0, pos);
+    }
+}
@@ -0,0 +1,112 @@
+package com.challengers.common;
+
+import com.challengers.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 만료된 리프레시 토큰과 오래된 읽은 알림을 지운다.
+ * 한 번에 chunkSize 행의 id 만 골라 지우고 chunk 사이에 pauseMs 만큼 쉬어서, 잠금을 오래 잡거나 복제를 밀리게 하지 않는다.
+ * id 는 (status, created_date), updated_date 인덱스를 날짜 순으로 읽어 골라서 chunk 마다 남겨 둘 행을 처음부터 다시 훑지 않는다.
+ * 각 chunk 는 자동 커밋되므로 중간에 실패해도 이미 지운 행은 그대로 두고 다음 실행에서 이어서 지운다.
+ */
+@Slf4j
+@Component
+public class RetentionScheduler {
+    private static final String SELECT_EXPIRED_REFRESH_TOKEN_IDS = "select refresh_token_id from refresh_token " +
+            "where updated_date < ? order by updated_date limit ?";
+    private static final String DELETE_REFRESH_TOKENS = "delete from refresh_token where refresh_token_id in (%s)";
+    private static final String SELECT_READ_NOTIFICATION_IDS = "select notification_id from notification " +
+            "where status = 'READ' and created_date < ? order by created_date limit ?";
+    private static final String DELETE_NOTIFICATIONS = "delete from notification where notification_id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long refreshTokenExpirationMsec;
+    private final int readNotificationRetentionDays;
+    private final int chunkSize;
+    private final long pauseMs;
+
+    public RetentionScheduler(JdbcTemplate jdbcTemplate, AppProperties appProperties, MeterRegistry meterRegistry,
+                              @Value("${app.retention.notification.read-days:30}") int readNotificationRetentionDays,
+                              @Value("${app.retention.chunk-size:1000}") int chunkSize,
+                              @Value("${app.retention.pause-ms:100}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.refreshTokenExpirationMsec = appProperties.getAuth().getRefreshTokenExpirationMsec();
+        this.readNotificationRetentionDays = readNotificationRetentionDays;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @Scheduled(cron = "${app.retention.cron:0 30 4 * * ?}")
+    public void purge() {
+        try {
+            purgeExpiredRefreshTokens(LocalDateTime.now());
+            purgeReadNotifications(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("보관 기간이 지난 데이터 삭제 실패", e);
+        }
+    }
+
+    long purgeExpiredRefreshTokens(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(refreshTokenExpirationMsec, ChronoUnit.MILLIS);
+        return purge("refresh_token", SELECT_EXPIRED_REFRESH_TOKEN_IDS, DELETE_REFRESH_TOKENS, cutoff);
+    }
+
+    long purgeReadNotifications(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusDays(readNotificationRetentionDays);
+        return purge("notification", SELECT_READ_NOTIFICATION_IDS, DELETE_NOTIFICATIONS, cutoff);
+    }
+
+    private long purge(String table, String selectIds, String deleteIds, LocalDateTime cutoff) {
+        Counter purgedCounter = Counter.builder("retention.purged")
+                .description("보관 기간이 지나 삭제한 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer runTimer = Timer.builder("retention.run")
+                .description("테이블 하나를 정리하는 데 걸린 시간")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        long purged = runTimer.record(() -> {
+            long deleted = 0;
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(selectIds, Long.class, Timestamp.valueOf(cutoff), chunkSize);
+                if (ids.isEmpty()) break;
+
+                int chunk = jdbcTemplate.update(String.format(deleteIds, String.join(",", Collections.nCopies(ids.size(), "?"))),
+                        ids.toArray());
+                purgedCounter.increment(chunk);
+                deleted += chunk;
+                if (ids.size() < chunkSize || !pause()) break;
+            }
+            return deleted;
+        });
+        log.info("보관 기간이 지난 {} 삭제 : {}건", table, purged);
+        return purged;
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.challengers.common;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 큰 파일을 고정 크기 파트로 나눠 S3 멀티파트 업로드로 올린다.
+ * 동시에 전송 중인 파트 수를 maxInFlightParts 로 제한하므로 업로드 하나가 사용하는 메모리는 partSize * maxInFlightParts 를 넘지 않는다.
+ */
+@Component
+public class S3MultipartUploader {
+    // S3 는 마지막 파트를 제외한 모든 파트가 5MB 이상이어야 한다.
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+
+    private final AmazonS3 amazonS3;
+    private final Executor s3PartUploadExecutor;
+    private final int partSize;
+    private final int maxInFlightParts;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Qualifier("s3PartUploadExecutor") Executor s3PartUploadExecutor,
+                               @Value("${cloud.aws.s3.multipart.part-size:8MB}") DataSize partSize,
+                               @Value("${cloud.aws.s3.multipart.max-in-flight-parts:4}") int maxInFlightParts) {
+        this.amazonS3 = amazonS3;
+        this.s3PartUploadExecutor = s3PartUploadExecutor;
+        this.partSize = (int) Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        this.maxInFlightParts = Math.max(maxInFlightParts, 1);
+    }
+
+    public void upload(String bucket, String key, MultipartFile multipartFile) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(multipartFile.getContentType());
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, objectMetadata)
+                .withCannedACL(CannedAccessControlList.PublicRead))
+                .getUploadId();
+
+        try {
+            List<PartETag> partETags = uploadParts(bucket, key, uploadId, multipartFile);
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    private List<PartETag> uploadParts(String bucket, String key, String uploadId, MultipartFile multipartFile)
+            throws IOException, InterruptedException {
+        Semaphore inFlightParts = new Semaphore(maxInFlightParts);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            long remaining = multipartFile.getSize();
+            int partNumber = 1;
+            while (remaining > 0 && parts.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+                int size = (int) Math.min(partSize, remaining);
+                inFlightParts.acquire();
+                byte[] buffer;
+                try {
+                    buffer = readFully(inputStream, size);
+                } catch (IOException e) {
+                    inFlightParts.release();
+                    throw e;
+                }
+
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withPartSize(size)
+                        .withInputStream(new ByteArrayInputStream(buffer));
+                parts.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return amazonS3.uploadPart(request).getPartETag();
+                    } finally {
+                        inFlightParts.release();
+                    }
+                }, s3PartUploadExecutor));
+                remaining -= size;
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            awaitAll(parts);
+            throw e;
+        }
+
+        awaitAll(parts);
+        try {
+            return parts.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    // 전송 중인 파트가 하나라도 남아 있을 때 중단하면 중단 뒤에 올라간 파트가 S3 에 남으므로, 성공/실패와 관계없이 모두 끝날 때까지 기다린다.
+    private void awaitAll(List<CompletableFuture<PartETag>> parts) {
+        CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                .handle((result, e) -> null)
+                .join();
+    }
+
+    private byte[] readFully(InputStream inputStream, int size) throws IOException {
+        byte[] buffer = new byte[size];
+        int offset = 0;
+        while (offset < size) {
+            int read = inputStream.read(buffer, offset, size - offset);
+            if (read < 0) throw new EOFException("파일 크기보다 데이터가 적습니다.");
+            offset += read;
+        }
+        return buffer;
+    }
+}
@@ -17,6 +17,9 @@ public class AppProperties {
         private String refreshTokenSecret;
         private long refreshTokenExpirationMsec;
 
+        // true 면 액세스 토큰의 클레임만으로 인증하고 요청마다 사용자를 조회하지 않는다.
+        private boolean stateless = true;
+
         public String getAccessTokenSecret() {
             return accessTokenSecret;
         }
@@ -48,6 +51,14 @@ public class AppProperties {
         public void setRefreshTokenExpirationMsec(long refreshTokenExpirationMsec) {
             this.refreshTokenExpirationMsec = refreshTokenExpirationMsec;
         }
+
+        public boolean isStateless() {
+            return stateless;
+        }
+
+        public void setStateless(boolean stateless) {
+            this.stateless = stateless;
+        }
     }
 
     public static final class OAuth2 {
@@ -0,0 +1,113 @@
+package com.challengers.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * S3 업로드 전용 스레드 풀.
+     * 큐가 가득 차면 요청 스레드가 직접 업로드하도록(CallerRuns) 해서 업로드가 무한정 쌓이지 않게 한다.
+     */
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor(@Value("${cloud.aws.s3.upload.pool-size:8}") int poolSize,
+                                                   @Value("${cloud.aws.s3.upload.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 멀티파트 업로드의 파트 전송 전용 스레드 풀.
+     * s3UploadExecutor 에서 실행 중인 업로드가 파트를 제출하므로, 같은 풀을 쓰면 서로를 기다리며 멈출 수 있어 분리한다.
+     */
+    @Bean(name = "s3PartUploadExecutor")
+    public ThreadPoolTaskExecutor s3PartUploadExecutor(@Value("${cloud.aws.s3.multipart.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("s3-part-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 썸네일 생성 전용 스레드 풀. 썸네일은 없어도 원본으로 대체되므로 큐가 가득 차면 요청 스레드에서 실행하지 않고 버린다.
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(@Value("${app.image.pool-size:2}") int poolSize,
+                                                          @Value("${app.image.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 새 인증샷을 팔로워 타임라인에 추가(fan-out)하는 스레드 풀.
+     * 빠뜨리면 타임라인이 어긋나므로 큐가 가득 차면 버리지 않고 호출한 스레드에서 실행한다.
+     */
+    @Bean(name = "feedFanOutExecutor")
+    public ThreadPoolTaskExecutor feedFanOutExecutor(@Value("${app.feed.fan-out.pool-size:2}") int poolSize,
+                                                     @Value("${app.feed.fan-out.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feed-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 알림을 SSE 로 보내는 스레드 풀. 놓친 알림은 재연결할 때 다시 보내므로 큐가 가득 차면 버린다.
+     */
+    @Bean(name = "notificationPushExecutor")
+    public ThreadPoolTaskExecutor notificationPushExecutor(@Value("${app.notification.push.pool-size:2}") int poolSize,
+                                                           @Value("${app.notification.push.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-push-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 로그인 뒤 출석과 업적을 반영하는 스레드 풀. 빠뜨리면 연속 출석이 끊기므로 큐가 가득 차면 호출한 스레드에서 실행한다.
+     */
+    @Bean(name = "attendanceExecutor")
+    public ThreadPoolTaskExecutor attendanceExecutor(@Value("${app.attendance.pool-size:2}") int poolSize,
+                                                     @Value("${app.attendance.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("attendance-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.challengers.feed;
+
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ChallengePhoto 의 좋아요/댓글 카운터가 실제 행 수와 어긋난 것을 바로잡는다.
+ * 카운터는 좋아요/댓글을 추가·삭제할 때 함께 갱신되므로, 이 작업은 직접 삭제된 데이터 등으로 생긴 오차만 고친다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FeedCounterScheduler {
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final ChallengePhotoRepository challengePhotoRepository;
+
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void reconcileCounts() {
+        Long minId = challengePhotoRepository.findMinId();
+        Long maxId = challengePhotoRepository.findMaxId();
+        if (minId == null || maxId == null) return;
+
+        int repaired = 0;
+        for (long startId = minId; startId <= maxId; startId += CHUNK_SIZE) {
+            repaired += challengePhotoRepository.reconcileCounts(startId, startId + CHUNK_SIZE - 1);
+        }
+        log.info("인증샷 좋아요/댓글 카운터 보정 : {}건", repaired);
+    }
+}
@@ -20,8 +20,10 @@ public class CommentController {
     private final CommentService commentService;
 
     @GetMapping ("/{challengePhotoId}")
-    public ResponseEntity<CommentResponse> getComment(@PathVariable("challengePhotoId") Long challengePhotoId){
-        return ResponseEntity.ok(commentService.getComment(challengePhotoId));
+    public ResponseEntity<CommentResponse> getComment(@PathVariable("challengePhotoId") Long challengePhotoId,
+                                                      @RequestParam(required = false) Long cursor,
+                                                      @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(commentService.getComment(challengePhotoId, cursor, size));
     }
 
     @PostMapping("/{challengePhotoId}")
@@ -2,6 +2,7 @@ package com.challengers.feed.controller;
 
 import com.challengers.feed.dto.LikeResponse;
 import com.challengers.feed.dto.PostResponse;
+import com.challengers.feed.dto.PostSliceResponse;
 import com.challengers.feed.service.PostService;
 import com.challengers.security.CurrentUser;
 import com.challengers.security.UserPrincipal;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -42,4 +44,11 @@ public class PostController {
     public ResponseEntity<List<PostResponse>> getFollowingPosts(@CurrentUser UserPrincipal userPrincipal, @PageableDefault(size=12, sort="id", direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity.ok(postService.getFollowingPosts(userPrincipal.getId(), pageable));
     }
+
+    @GetMapping("/following/cursor")
+    public ResponseEntity<PostSliceResponse> getFollowingPostsByCursor(@CurrentUser UserPrincipal userPrincipal,
+                                                                       @RequestParam(required = false) Long cursor,
+                                                                       @RequestParam(defaultValue = "12") int size) {
+        return ResponseEntity.ok(postService.getFollowingPostsByCursor(userPrincipal.getId(), cursor, size));
+    }
 }
@@ -10,6 +10,7 @@ import javax.validation.constraints.NotNull;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_comment_challenge_photo", columnList = "challenge_photo_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
     @Id
@@ -10,7 +10,9 @@ import javax.validation.constraints.NotNull;
 
 @Entity
 @Getter
-@Table(name="Likes")
+@Table(name="Likes",
+        indexes = @Index(name = "idx_likes_challenge_photo", columnList = "challenge_photo_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_likes_user_challenge_photo", columnNames = {"user_id", "challenge_photo_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like {
 
@@ -13,10 +13,14 @@ import java.util.List;
 public class CommentResponse {
     private List<CommentDto> comments;
     private Long commentCnt;
+    private Long nextCursor;
+    private boolean hasNext;
 
     @Builder
-    public CommentResponse(List<CommentDto> comments, Long commentCnt){
+    public CommentResponse(List<CommentDto> comments, Long commentCnt, Long nextCursor, boolean hasNext){
         this.comments = comments;
         this.commentCnt = commentCnt;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
     }
 }
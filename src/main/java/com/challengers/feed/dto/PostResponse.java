@@ -16,15 +16,17 @@ public class PostResponse {
     private ChallengePhotoUserDto auth;
     private String title;
     private String image;
+    private String thumbnail;
     private Long commentCnt;
     private Long likeCnt;
 
     @Builder
-    public PostResponse(Long id, ChallengePhotoUserDto ChallengePhotoUserDto, String title, String image, Long commentCnt, Long likeCnt) {
+    public PostResponse(Long id, ChallengePhotoUserDto ChallengePhotoUserDto, String title, String image, String thumbnail, Long commentCnt, Long likeCnt) {
         this.id = id;
         this.auth = ChallengePhotoUserDto;
         this.title = title;
         this.image = image;
+        this.thumbnail = thumbnail;
         this.commentCnt = commentCnt;
         this.likeCnt = likeCnt;
     }
@@ -0,0 +1,16 @@
+package com.challengers.feed.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSliceResponse {
+    private List<PostResponse> content;
+    private Long nextCursor;
+    private boolean hasNext;
+}
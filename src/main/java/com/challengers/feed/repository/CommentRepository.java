@@ -1,6 +1,7 @@
 package com.challengers.feed.repository;
 
 import com.challengers.feed.domain.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -8,5 +9,6 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Long countByChallengePhotoId(Long challengePhotoId);
     List<Comment> findByChallengePhotoIdOrderByIdDesc(Long challengePhotoId);
+    List<Comment> findByChallengePhotoIdAndIdLessThanOrderByIdDesc(Long challengePhotoId, Long cursor, Pageable pageable);
 }
 
@@ -0,0 +1,40 @@
+package com.challengers.feed.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 팔로잉 피드 타임라인(인증샷 id, 내림차순) 저장소.
+ * 타임라인은 최근 getCapacity() 개까지만 보관하며, 저장소를 바꿀 수 있도록 인터페이스로 분리한다.
+ */
+public interface FeedTimelineStore {
+    int getCapacity();
+
+    boolean exists(Long userId);
+
+    /**
+     * 비어 있는 채우는 중 타임라인을 만들고 그 세대 번호를 반환한다. 이미 타임라인이 있으면 -1 을 반환한다.
+     * 채우는 동안 추가된 인증샷은 타임라인에 모아 두었다가 save 할 때 함께 합친다.
+     */
+    long startLoading(Long userId);
+
+    /**
+     * startLoading 으로 만든 타임라인에 DB 에서 읽은 id 를 합쳐 조회할 수 있게 한다.
+     * 그 사이 타임라인이 버려졌거나 다른 세대로 바뀌었으면 읽은 내용이 오래된 것이므로 저장하지 않는다.
+     * complete 는 팔로우한 사용자들의 인증샷을 모두 담았는지 여부이다.
+     */
+    void save(Long userId, long generation, List<Long> challengePhotoIds, boolean complete);
+
+    /**
+     * 이미 만들어진(채우는 중 포함) 타임라인에만 추가한다. 타임라인이 없으면 다음 조회 때 새로 채워진다.
+     */
+    void append(Long userId, Long challengePhotoId);
+
+    /**
+     * cursor 보다 작은 id 를 최대 limit 개 반환한다.
+     * 타임라인이 없거나 아직 채우는 중이거나, 보관 범위를 넘어선 조회라 답할 수 없으면 빈 Optional 을 반환한다.
+     */
+    Optional<List<Long>> findBefore(Long userId, Long cursor, int limit);
+
+    void evict(Long userId);
+}
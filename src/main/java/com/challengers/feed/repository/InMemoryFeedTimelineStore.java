@@ -0,0 +1,115 @@
+package com.challengers.feed.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 애플리케이션 메모리에 보관하는 타임라인 저장소.
+ * 최근에 조회한 maxUsers 명의 타임라인만 유지하고, 재시작하면 조회 시점에 DB 에서 다시 채운다.
+ */
+@Component
+public class InMemoryFeedTimelineStore implements FeedTimelineStore {
+    private final int capacity;
+    private final Map<Long, Timeline> timelines;
+    private final AtomicLong generations = new AtomicLong();
+
+    public InMemoryFeedTimelineStore(@Value("${app.feed.timeline.capacity:500}") int capacity,
+                                     @Value("${app.feed.timeline.max-users:10000}") int maxUsers) {
+        this.capacity = capacity;
+        this.timelines = Collections.synchronizedMap(new LinkedHashMap<Long, Timeline>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Timeline> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean exists(Long userId) {
+        return timelines.containsKey(userId);
+    }
+
+    @Override
+    public long startLoading(Long userId) {
+        Timeline timeline = new Timeline(generations.incrementAndGet());
+        return timelines.putIfAbsent(userId, timeline) == null ? timeline.generation : -1;
+    }
+
+    @Override
+    public void save(Long userId, long generation, List<Long> challengePhotoIds, boolean complete) {
+        Timeline timeline = timelines.get(userId);
+        if (timeline != null && timeline.generation == generation) timeline.load(challengePhotoIds, complete);
+    }
+
+    @Override
+    public void append(Long userId, Long challengePhotoId) {
+        Timeline timeline = timelines.get(userId);
+        if (timeline != null) timeline.add(challengePhotoId);
+    }
+
+    @Override
+    public Optional<List<Long>> findBefore(Long userId, Long cursor, int limit) {
+        Timeline timeline = timelines.get(userId);
+        if (timeline == null) return Optional.empty();
+        return timeline.findBefore(cursor, limit);
+    }
+
+    @Override
+    public void evict(Long userId) {
+        timelines.remove(userId);
+    }
+
+    private class Timeline {
+        private final long generation;
+        private final NavigableSet<Long> ids = new TreeSet<>(Comparator.reverseOrder());
+        private boolean loading = true;
+        private boolean complete = true;
+
+        Timeline(long generation) {
+            this.generation = generation;
+        }
+
+        synchronized void load(List<Long> challengePhotoIds, boolean complete) {
+            if (!loading) return;
+            if (!complete) this.complete = false;
+            challengePhotoIds.forEach(this::add);
+            loading = false;
+        }
+
+        synchronized void add(Long challengePhotoId) {
+            ids.add(challengePhotoId);
+            if (ids.size() > capacity) {
+                ids.pollLast();
+                complete = false;
+            }
+        }
+
+        synchronized Optional<List<Long>> findBefore(Long cursor, int limit) {
+            if (loading) return Optional.empty();
+            NavigableSet<Long> before = cursor == null ? ids : ids.tailSet(cursor, false);
+            List<Long> result = new ArrayList<>(limit);
+            for (Long id : before) {
+                if (result.size() == limit) break;
+                result.add(id);
+            }
+            if (result.size() < limit && !complete) return Optional.empty();
+            return Optional.of(result);
+        }
+    }
+}
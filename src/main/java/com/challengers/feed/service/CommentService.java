@@ -1,5 +1,8 @@
 package com.challengers.feed.service;
 
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.common.exception.BadRequestException;
 import com.challengers.common.exception.UserException;
 import com.challengers.feed.domain.Comment;
 import com.challengers.feed.dto.ChallengePhotoUserDto;
@@ -10,25 +13,52 @@ import com.challengers.feed.repository.CommentRepository;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_COMMENT_SLICE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final ChallengePhotoRepository challengePhotoRepository;
 
+    /**
+     * 댓글을 최신순으로 cursor(마지막으로 받은 댓글 id) 이후부터 size 개 조회한다.
+     * 작성자는 한 번에 조회하고, 전체 댓글 수는 인증샷에 저장된 카운터를 사용한다.
+     */
     @Transactional
-    public CommentResponse getComment(Long challengePhotoId){
-        List<Comment> commentList = commentRepository.findByChallengePhotoIdOrderByIdDesc(challengePhotoId);
-        List<CommentDto> comments = new ArrayList<>();
+    public CommentResponse getComment(Long challengePhotoId, Long cursor, int size){
+        if (size < 1 || size > MAX_COMMENT_SLICE_SIZE)
+            throw new BadRequestException("조회 개수는 1 이상 " + MAX_COMMENT_SLICE_SIZE + " 이하여야 합니다.");
+
+        ChallengePhoto challengePhoto = challengePhotoRepository.findById(challengePhotoId).orElseThrow(NoSuchElementException::new);
+        List<Comment> commentList = commentRepository.findByChallengePhotoIdAndIdLessThanOrderByIdDesc(
+                challengePhotoId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size + 1));
+
+        boolean hasNext = commentList.size() > size;
+        if (hasNext) commentList = commentList.subList(0, size);
+        Long nextCursor = hasNext ? commentList.get(size - 1).getId() : null;
 
+        Set<Long> userIds = commentList.stream().map(Comment::getUserId).collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<CommentDto> comments = new ArrayList<>();
         for(Comment comment : commentList){
-            User user = userRepository.findById(comment.getUserId()).orElseThrow(UserException::new);
+            User user = users.get(comment.getUserId());
+            if (user == null) throw new UserException();
 
             ChallengePhotoUserDto challengePhotoUserDto = ChallengePhotoUserDto.builder()
                     .id(user.getId())
@@ -44,11 +74,11 @@ public class CommentService {
             comments.add(commentDto);
         }
 
-        Long commentCnt = commentRepository.countByChallengePhotoId(challengePhotoId);
-
         CommentResponse commentResponse = CommentResponse.builder()
                 .comments(comments)
-                .commentCnt(commentCnt)
+                .commentCnt(challengePhoto.getCommentCount())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
 
         return commentResponse;
@@ -62,6 +92,7 @@ public class CommentService {
                 .content(commentRequest.getContent())
                 .build();
         commentRepository.save(comment);
+        challengePhotoRepository.increaseCommentCount(challengePhotoId);
     }
 
     @Transactional
@@ -72,7 +103,9 @@ public class CommentService {
 
     @Transactional
     public void deleteComment(Long commentId){
-        commentRepository.deleteById(commentId);
+        Comment comment = commentRepository.findById(commentId).orElseThrow(NoSuchElementException::new);
+        commentRepository.delete(comment);
+        challengePhotoRepository.decreaseCommentCount(comment.getChallengePhotoId());
     }
 
 }
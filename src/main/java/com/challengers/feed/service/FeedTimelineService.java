@@ -0,0 +1,154 @@
+package com.challengers.feed.service;
+
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.feed.repository.FeedTimelineStore;
+import com.challengers.follow.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로잉 피드를 미리 계산된 타임라인으로 제공한다.
+ * 새 인증샷은 커밋된 뒤 작성자의 팔로워 타임라인에 추가(fan-out on write)하고,
+ * 팔로워가 fanOutFollowerLimit 명을 넘는 작성자는 추가하지 않고 조회할 때 직접 읽어 합친다(fan-out on read).
+ * 이런 작성자 목록은 팔로워 수로 주기적으로 다시 만든다.
+ */
+@Slf4j
+@Service
+public class FeedTimelineService {
+    private final FollowRepository followRepository;
+    private final ChallengePhotoRepository challengePhotoRepository;
+    private final FeedTimelineStore feedTimelineStore;
+    private final FollowingFeedReader followingFeedReader;
+    private final Executor feedFanOutExecutor;
+    private final long fanOutFollowerLimit;
+    private volatile Set<Long> highFollowerUserIds = ConcurrentHashMap.newKeySet();
+
+    public FeedTimelineService(FollowRepository followRepository,
+                               ChallengePhotoRepository challengePhotoRepository,
+                               FeedTimelineStore feedTimelineStore,
+                               FollowingFeedReader followingFeedReader,
+                               @Qualifier("feedFanOutExecutor") Executor feedFanOutExecutor,
+                               @Value("${app.feed.fan-out.follower-limit:1000}") long fanOutFollowerLimit) {
+        this.followRepository = followRepository;
+        this.challengePhotoRepository = challengePhotoRepository;
+        this.feedTimelineStore = feedTimelineStore;
+        this.followingFeedReader = followingFeedReader;
+        this.feedFanOutExecutor = feedFanOutExecutor;
+        this.fanOutFollowerLimit = fanOutFollowerLimit;
+    }
+
+    public void fanOutAfterCommit(Long authorId, Long challengePhotoId) {
+        afterCommit(() -> feedFanOutExecutor.execute(() -> fanOut(authorId, challengePhotoId)));
+    }
+
+    // 팔로우 관계가 바뀌면 타임라인을 버리고 다음 조회 때 DB 에서 다시 채운다.
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> feedTimelineStore.evict(userId));
+    }
+
+    /**
+     * 팔로워가 fanOutFollowerLimit 명을 넘는 작성자 목록을 DB 의 팔로워 수로 다시 만든다.
+     * 재시작 직후에도 목록이 채워지고, 팔로워가 줄어든 작성자는 빠진다. 그 사이 새로 넘은 작성자는 fanOut 에서 바로 추가된다.
+     */
+    @Scheduled(fixedDelayString = "${app.feed.fan-out.high-follower-refresh-ms:600000}")
+    public void refreshHighFollowerUserIds() {
+        try {
+            Set<Long> refreshed = ConcurrentHashMap.newKeySet();
+            refreshed.addAll(followRepository.findUserIdsByFollowerCountGreaterThan(fanOutFollowerLimit));
+            highFollowerUserIds = refreshed;
+        } catch (RuntimeException e) {
+            log.warn("팔로워가 많은 작성자 목록 갱신 실패", e);
+        }
+    }
+
+    void fanOut(Long authorId, Long challengePhotoId) {
+        try {
+            if (followRepository.countByFromUser(authorId) > fanOutFollowerLimit) {
+                highFollowerUserIds.add(authorId);
+                return;
+            }
+            highFollowerUserIds.remove(authorId);
+            followRepository.findFollowerIdsByUserId(authorId)
+                    .forEach(followerId -> feedTimelineStore.append(followerId, challengePhotoId));
+        } catch (RuntimeException e) {
+            log.warn("타임라인 fan-out 실패 : authorId={}, challengePhotoId={}", authorId, challengePhotoId, e);
+        }
+    }
+
+    /**
+     * cursor 보다 오래된 팔로잉 인증샷을 limit 개까지 id 내림차순으로 반환한다.
+     * 타임라인의 보관 범위를 넘어서는 조회는 DB 에서 직접 읽는다.
+     */
+    public List<ChallengePhoto> findPhotosBefore(Long userId, Long cursor, int limit) {
+        long generation = feedTimelineStore.startLoading(userId);
+        if (generation >= 0) load(userId, generation);
+
+        Optional<List<Long>> timeline = feedTimelineStore.findBefore(userId, cursor, limit);
+        if (timeline.isEmpty()) return followingFeedReader.findPhotosBefore(userId, cursor, limit);
+
+        List<Long> challengePhotoIds = mergeHighFollowerPhotos(userId, timeline.get(), cursor, limit);
+        if (challengePhotoIds.isEmpty()) return new ArrayList<>();
+        return challengePhotoRepository.findAllWithUserAndChallengeByIdIn(challengePhotoIds);
+    }
+
+    // 읽는 동안 fan-out 된 인증샷은 채우는 중인 타임라인에 모였다가 save 할 때 합쳐진다.
+    private void load(Long userId, long generation) {
+        int capacity = feedTimelineStore.getCapacity();
+        List<Long> challengePhotoIds;
+        try {
+            challengePhotoIds = challengePhotoRepository.findFollowingIds(userId, PageRequest.of(0, capacity + 1));
+        } catch (RuntimeException e) {
+            feedTimelineStore.evict(userId);
+            throw e;
+        }
+        boolean complete = challengePhotoIds.size() <= capacity;
+        feedTimelineStore.save(userId, generation, complete ? challengePhotoIds : challengePhotoIds.subList(0, capacity), complete);
+    }
+
+    private List<Long> mergeHighFollowerPhotos(Long userId, List<Long> timeline, Long cursor, int limit) {
+        Set<Long> highFollowerUserIds = this.highFollowerUserIds;
+        if (highFollowerUserIds.isEmpty()) return timeline;
+
+        List<Long> highFollowerFollowingIds = followRepository.findFollowingIdsByUserId(userId).stream()
+                .filter(highFollowerUserIds::contains)
+                .collect(Collectors.toList());
+        if (highFollowerFollowingIds.isEmpty()) return timeline;
+
+        NavigableSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(timeline);
+        merged.addAll(challengePhotoRepository.findIdsByUserIdInAndIdLessThan(highFollowerFollowingIds,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, limit)));
+        return merged.stream().limit(limit).collect(Collectors.toList());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.challengers.feed.service;
+
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.follow.FollowRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 팔로우한 사용자들의 인증샷을 id 내림차순으로 커서(마지막으로 받은 id) 이후부터 읽는다.
+ * 팔로우 수가 많으면 user_id in (...) 조건이 커져 정렬 비용이 팔로우 수에 비례하므로,
+ * 팔로우 목록을 나눠 그룹마다 limit 만큼만 읽은 뒤 k-way merge 로 합친다.
+ */
+@Component
+public class FollowingFeedReader {
+    private final FollowRepository followRepository;
+    private final ChallengePhotoRepository challengePhotoRepository;
+    private final int mergeGroupSize;
+
+    public FollowingFeedReader(FollowRepository followRepository,
+                               ChallengePhotoRepository challengePhotoRepository,
+                               @Value("${app.feed.following.merge-group-size:500}") int mergeGroupSize) {
+        this.followRepository = followRepository;
+        this.challengePhotoRepository = challengePhotoRepository;
+        this.mergeGroupSize = mergeGroupSize;
+    }
+
+    public List<ChallengePhoto> findPhotosBefore(Long userId, Long cursor, int limit) {
+        List<Long> followingIds = followRepository.findFollowingIdsByUserId(userId);
+        if (followingIds.isEmpty()) return new ArrayList<>();
+
+        Long before = cursor == null ? Long.MAX_VALUE : cursor;
+        if (followingIds.size() <= mergeGroupSize)
+            return challengePhotoRepository.findAllByUserIdInAndIdLessThan(followingIds, before, PageRequest.of(0, limit));
+
+        List<List<ChallengePhoto>> groups = new ArrayList<>();
+        for (int from = 0; from < followingIds.size(); from += mergeGroupSize) {
+            List<Long> group = followingIds.subList(from, Math.min(from + mergeGroupSize, followingIds.size()));
+            groups.add(challengePhotoRepository.findAllByUserIdInAndIdLessThan(group, before, PageRequest.of(0, limit)));
+        }
+        return merge(groups, limit);
+    }
+
+    // 각 그룹은 이미 id 내림차순이므로 그룹의 첫 원소끼리만 비교하며 limit 개를 꺼낸다.
+    static List<ChallengePhoto> merge(List<List<ChallengePhoto>> groups, int limit) {
+        PriorityQueue<PeekingIterator> heads = new PriorityQueue<>(
+                Comparator.comparing((PeekingIterator head) -> head.peek().getId()).reversed());
+        for (List<ChallengePhoto> group : groups) {
+            if (!group.isEmpty()) heads.add(new PeekingIterator(group.iterator()));
+        }
+
+        List<ChallengePhoto> merged = new ArrayList<>();
+        while (merged.size() < limit && !heads.isEmpty()) {
+            PeekingIterator head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) heads.add(head);
+        }
+        return merged;
+    }
+
+    private static class PeekingIterator {
+        private final Iterator<ChallengePhoto> iterator;
+        private ChallengePhoto next;
+
+        PeekingIterator(Iterator<ChallengePhoto> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        ChallengePhoto peek() {
+            return next;
+        }
+
+        ChallengePhoto next() {
+            ChallengePhoto current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.challengers.feed.service;
 
-import com.challengers.feed.domain.Like;
 import com.challengers.feed.dto.LikeResponse;
 import com.challengers.feed.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,10 +12,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
+    private final LikeWriteBuffer likeWriteBuffer;
 
     @Transactional
     public LikeResponse getLike(Long userId){
-        List<Long> likeList = likeRepository.findAllChallengePhotoIdByUserId(userId);
+        List<Long> likeList = likeWriteBuffer.mergePending(userId, likeRepository.findAllChallengePhotoIdByUserId(userId));
         for(Long id : likeList){
             System.out.println(id);
         }
@@ -27,15 +27,12 @@ public class LikeService {
         return likeResponse;
     }
 
-    @Transactional
+    // 좋아요 추가/취소는 LikeWriteBuffer 에 모았다가 주기적으로 한 번에 저장한다.
     public void createLike(Long userId, Long challengePhotoId){
-        Like like = Like.builder().userId(userId).challengePhotoId(challengePhotoId).build();
-        likeRepository.save(like);
+        likeWriteBuffer.like(userId, challengePhotoId);
     }
 
-    @Transactional
     public void deleteLike(Long userId, Long challengePhotoId){
-        Like like = likeRepository.findByUserIdAndChallengePhotoId(userId,challengePhotoId);
-        likeRepository.delete(like);
+        likeWriteBuffer.unlike(userId, challengePhotoId);
     }
 }
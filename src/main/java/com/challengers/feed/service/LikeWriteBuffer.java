@@ -0,0 +1,197 @@
+package com.challengers.feed.service;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요/좋아요 취소를 메모리에 모았다가 주기적으로 한 번에 반영한다(write-behind).
+ * 같은 (사용자, 인증샷) 에 대한 요청은 마지막 상태 하나로 합쳐진다. 요청은 사용자 id 로 나눈 stripe 에
+ * 사용자별 {인증샷 id : 좋아요 여부} 로 모으므로, 인기 있는 인증샷에 요청이 몰려도 여러 stripe 로 흩어지고
+ * 반영되기 전의 상태를 조회 결과에 합칠 때(mergePending)도 그 사용자의 stripe 하나만 본다.
+ * 저장 중인 요청은 같은 잠금 안에서 stripe 의 flushing 으로 넘기고, 커밋된 뒤에도 한 주기 동안은 flushed 로 남겨서
+ * 커밋 전에 DB 를 읽은 조회에도 합쳐지게 한다.
+ * 존재하지 않는 인증샷에 대한 좋아요는 저장할 때 걸러지고 카운터에도 더하지 않는다.
+ */
+@Slf4j
+@Component
+public class LikeWriteBuffer {
+    private static final String INSERT_LIKE = "insert into likes (challenge_photo_id, user_id) select ?, ? from dual " +
+            "where exists (select 1 from challenge_photo where challenge_photo_id = ?) " +
+            "and not exists (select 1 from likes where challenge_photo_id = ? and user_id = ?)";
+    private static final String DELETE_LIKE = "delete from likes where challenge_photo_id = ? and user_id = ?";
+    private static final String ADD_LIKE_COUNT = "update challenge_photo set like_count = like_count + ? where challenge_photo_id = ?";
+    private static final String RECOUNT_LIKE_COUNT = "update challenge_photo set like_count = " +
+            "(select count(*) from likes l where l.challenge_photo_id = ?) where challenge_photo_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Stripe[] stripes;
+
+    public LikeWriteBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           @Value("${app.feed.like-buffer.stripes:64}") int stripeCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new Stripe();
+    }
+
+    public void like(Long userId, Long challengePhotoId) {
+        stripeOf(userId).put(userId, challengePhotoId, true);
+    }
+
+    public void unlike(Long userId, Long challengePhotoId) {
+        stripeOf(userId).put(userId, challengePhotoId, false);
+    }
+
+    /**
+     * DB 에서 읽은 사용자의 좋아요 목록에 아직 반영되지 않은 좋아요/취소를 합친다.
+     */
+    public List<Long> mergePending(Long userId, List<Long> likedChallengePhotoIds) {
+        Set<Long> merged = new LinkedHashSet<>(likedChallengePhotoIds);
+        stripeOf(userId).apply(userId, merged);
+        return new ArrayList<>(merged);
+    }
+
+    @Scheduled(fixedDelayString = "${app.feed.like-buffer.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Map<Long, Boolean>> drained = new HashMap<>();
+        for (Stripe stripe : stripes) drained.putAll(stripe.drain());
+        if (drained.isEmpty()) {
+            for (Stripe stripe : stripes) stripe.committed();
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(drained));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 반영 실패, 다음 주기에 다시 시도합니다 : {}명", drained.size(), e);
+            for (Stripe stripe : stripes) stripe.failed();
+            return;
+        }
+        for (Stripe stripe : stripes) stripe.committed();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<Long, Map<Long, Boolean>> drained) {
+        List<LikeKey> likes = new ArrayList<>();
+        List<LikeKey> unlikes = new ArrayList<>();
+        drained.forEach((userId, pending) -> pending.forEach((challengePhotoId, liked) ->
+                (liked ? likes : unlikes).add(new LikeKey(userId, challengePhotoId))));
+
+        int[] inserted = batchUpdate(INSERT_LIKE, likes.stream()
+                .map(key -> new Object[]{key.getChallengePhotoId(), key.getUserId(), key.getChallengePhotoId(),
+                        key.getChallengePhotoId(), key.getUserId()})
+                .collect(Collectors.toList()));
+        int[] deleted = batchUpdate(DELETE_LIKE, unlikes.stream()
+                .map(key -> new Object[]{key.getChallengePhotoId(), key.getUserId()})
+                .collect(Collectors.toList()));
+
+        // 실제로 추가/삭제된 행만 카운터에 더한다. 드라이버가 행 수를 알려주지 않으면 그 인증샷은 다시 센다.
+        Map<Long, Long> deltas = new HashMap<>();
+        Set<Long> recounts = new LinkedHashSet<>();
+        collectDeltas(likes, inserted, 1L, deltas, recounts);
+        collectDeltas(unlikes, deleted, -1L, deltas, recounts);
+        deltas.keySet().removeAll(recounts);
+
+        batchUpdate(ADD_LIKE_COUNT, deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                .collect(Collectors.toList()));
+        batchUpdate(RECOUNT_LIKE_COUNT, recounts.stream()
+                .map(challengePhotoId -> new Object[]{challengePhotoId, challengePhotoId})
+                .collect(Collectors.toList()));
+    }
+
+    private int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) return new int[0];
+        return jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+
+    private void collectDeltas(List<LikeKey> keys, int[] results, long sign, Map<Long, Long> deltas, Set<Long> recounts) {
+        for (int i = 0; i < keys.size(); i++) {
+            Long challengePhotoId = keys.get(i).getChallengePhotoId();
+            if (results[i] == Statement.SUCCESS_NO_INFO) recounts.add(challengePhotoId);
+            else if (results[i] > 0) deltas.merge(challengePhotoId, sign * results[i], Long::sum);
+        }
+    }
+
+    private static void apply(Map<Long, Boolean> pending, Set<Long> liked) {
+        if (pending == null) return;
+        pending.forEach((challengePhotoId, isLiked) -> {
+            if (isLiked) liked.add(challengePhotoId);
+            else liked.remove(challengePhotoId);
+        });
+    }
+
+    private Stripe stripeOf(Long userId) {
+        return stripes[Math.floorMod(userId.hashCode(), stripes.length)];
+    }
+
+    private static class Stripe {
+        private Map<Long, Map<Long, Boolean>> pending = new HashMap<>();
+        // 저장 중인 요청
+        private Map<Long, Map<Long, Boolean>> flushing = Collections.emptyMap();
+        // 직전 주기에 커밋된 요청. 커밋 전에 DB 를 읽은 조회를 위해 다음 주기까지 남긴다.
+        private Map<Long, Map<Long, Boolean>> flushed = Collections.emptyMap();
+
+        synchronized void put(Long userId, Long challengePhotoId, boolean liked) {
+            pending.computeIfAbsent(userId, id -> new HashMap<>()).put(challengePhotoId, liked);
+        }
+
+        synchronized Map<Long, Map<Long, Boolean>> drain() {
+            flushing = pending;
+            pending = new HashMap<>();
+            return flushing;
+        }
+
+        synchronized void committed() {
+            flushed = flushing;
+            flushing = Collections.emptyMap();
+        }
+
+        // 저장에 실패한 요청은 그 사이에 들어온 요청을 덮어쓰지 않도록 비어 있는 자리에만 되돌린다.
+        synchronized void failed() {
+            flushing.forEach((userId, liked) -> {
+                Map<Long, Boolean> userPending = pending.computeIfAbsent(userId, id -> new HashMap<>());
+                liked.forEach(userPending::putIfAbsent);
+            });
+            flushing = Collections.emptyMap();
+        }
+
+        synchronized void apply(Long userId, Set<Long> liked) {
+            LikeWriteBuffer.apply(flushed.get(userId), liked);
+            LikeWriteBuffer.apply(flushing.get(userId), liked);
+            LikeWriteBuffer.apply(pending.get(userId), liked);
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class LikeKey {
+        private final Long userId;
+        private final Long challengePhotoId;
+    }
+}
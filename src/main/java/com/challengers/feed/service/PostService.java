@@ -2,13 +2,11 @@ package com.challengers.feed.service;
 
 import com.challengers.challengephoto.domain.ChallengePhoto;
 import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.common.exception.BadRequestException;
 import com.challengers.common.exception.UserException;
 import com.challengers.feed.dto.ChallengePhotoUserDto;
 import com.challengers.feed.dto.PostResponse;
-import com.challengers.feed.repository.CommentRepository;
-import com.challengers.feed.repository.LikeRepository;
-import com.challengers.follow.FollowRepository;
-import com.challengers.follow.dto.FollowResponse;
+import com.challengers.feed.dto.PostSliceResponse;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,91 +15,80 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
+    private static final int MAX_POST_SLICE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final ChallengePhotoRepository challengePhotoRepository;
-    private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
-    private final FollowRepository followRepository;
+    private final FeedTimelineService feedTimelineService;
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostResponse> getAllPosts(Pageable pageable) {
-        Page<ChallengePhoto> list = challengePhotoRepository.findAll(pageable);
-        return fetchPosts(list);
+        Page<ChallengePhoto> list = challengePhotoRepository.findAllWithUserAndChallenge(pageable);
+        return fetchPosts(list.getContent());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PostResponse getOnePost(Long ChallengePhotoId) {
-        ChallengePhoto challengePhoto = challengePhotoRepository.findById(ChallengePhotoId).orElseThrow(NoSuchElementException::new);
+        ChallengePhoto challengePhoto = challengePhotoRepository.findWithUserAndChallengeById(ChallengePhotoId).orElseThrow(NoSuchElementException::new);
         return fetchPost(challengePhoto);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostResponse> getUserPosts(Long userId, Pageable pageable) {
         User user = userRepository.findById(userId).orElseThrow(UserException::new);
-        Page<ChallengePhoto> list = challengePhotoRepository.findAllByUser(pageable, user);
-        return fetchPosts(list);
+        Page<ChallengePhoto> list = challengePhotoRepository.findAllWithUserAndChallengeByUser(pageable, user);
+        return fetchPosts(list.getContent());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostResponse> getFollowingPosts(Long userId, Pageable pageable) {
-        List<PostResponse> posts = new ArrayList<>();
-        List<FollowResponse> FollowingList = followRepository.findAllByToUser(userId);
+        Page<ChallengePhoto> list = challengePhotoRepository.findAllFollowingWithUserAndChallenge(pageable, userId);
+        return fetchPosts(list.getContent());
+    }
 
-        for(FollowResponse followResponse : FollowingList){
-            User user = userRepository.findById(followResponse.getId()).orElseThrow(UserException::new);
-            Page<ChallengePhoto> list = challengePhotoRepository.findAllByUser(pageable, user);
-            for (ChallengePhoto challengePhoto : list.getContent()){
-                posts.add(fetchPost(challengePhoto));
-            }
-        }
+    @Transactional(readOnly = true)
+    public PostSliceResponse getFollowingPostsByCursor(Long userId, Long cursor, int size) {
+        if (size < 1 || size > MAX_POST_SLICE_SIZE)
+            throw new BadRequestException("조회 개수는 1 이상 " + MAX_POST_SLICE_SIZE + " 이하여야 합니다.");
 
-        return posts;
-    }
+        List<ChallengePhoto> challengePhotos = feedTimelineService.findPhotosBefore(userId, cursor, size + 1);
 
-    public List<PostResponse> fetchPosts(Page<ChallengePhoto> list){
-        List<PostResponse> posts = new ArrayList<>();
+        boolean hasNext = challengePhotos.size() > size;
+        if (hasNext) challengePhotos = challengePhotos.subList(0, size);
+        Long nextCursor = hasNext ? challengePhotos.get(size - 1).getId() : null;
 
-        for (ChallengePhoto challengePhoto : list.getContent()){
-            posts.add(fetchPost(challengePhoto));
-        }
+        return new PostSliceResponse(fetchPosts(challengePhotos), nextCursor, hasNext);
+    }
 
-        return posts;
+    // 댓글 수와 좋아요 수는 ChallengePhoto 에 함께 저장된 카운터를 그대로 사용한다.
+    public List<PostResponse> fetchPosts(List<ChallengePhoto> challengePhotos){
+        return challengePhotos.stream()
+                .map(this::fetchPost)
+                .collect(Collectors.toList());
     }
 
     public PostResponse fetchPost(ChallengePhoto challengePhoto){
-        Long userId = challengePhoto.getUser().getId();
-        String userName = challengePhoto.getUser().getName();
-        String userImageUrl = challengePhoto.getUser().getImage();
-
-        Long challengePhotoId = challengePhoto.getId();
-        String image = challengePhoto.getPhotoUrl();
-        String title = challengePhoto.getChallenge().getName();
-
         ChallengePhotoUserDto challengePhotoUserDto = ChallengePhotoUserDto.builder()
-                .id(userId)
-                .name(userName)
-                .image(userImageUrl)
+                .id(challengePhoto.getUser().getId())
+                .name(challengePhoto.getUser().getName())
+                .image(challengePhoto.getUser().getImage())
                 .build();
 
-        Long commentCnt = commentRepository.countByChallengePhotoId(challengePhotoId);
-        Long likeCnt = likeRepository.countByChallengePhotoId(challengePhotoId);
-
-        PostResponse postResponse = PostResponse.builder()
-                .id(challengePhotoId)
+        return PostResponse.builder()
+                .id(challengePhoto.getId())
                 .ChallengePhotoUserDto(challengePhotoUserDto)
-                .title(title)
-                .image(image)
-                .commentCnt(commentCnt)
-                .likeCnt(likeCnt)
+                .title(challengePhoto.getChallenge().getName())
+                .image(challengePhoto.getPhotoUrl())
+                .thumbnail(challengePhoto.getThumbnailOrPhotoUrl())
+                .commentCnt(challengePhoto.getCommentCount())
+                .likeCnt(challengePhoto.getLikeCount())
                 .build();
-
-        return postResponse;
     }
 }
@@ -18,6 +18,16 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query(value = "select new com.challengers.follow.dto.FollowResponse(u.id, u.name, u.image) from Follow f INNER JOIN User u ON f.fromUser = u.id where f.toUser = :userId")
     List<FollowResponse> findAllByToUser(@Param("userId") Long userId);
 
+    @Query("select f.fromUser from Follow f where f.toUser = :userId")
+    List<Long> findFollowingIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select f.toUser from Follow f where f.fromUser = :userId")
+    List<Long> findFollowerIdsByUserId(@Param("userId") Long userId);
+
     @Query(value = "select new com.challengers.follow.dto.FollowResponse(u.id, u.name, u.image) from Follow f INNER JOIN User u ON f.toUser = u.id where f.fromUser = :userId")
     List<FollowResponse> findAllByFromUser(@Param("userId") Long userId);
+
+    // fromUser 가 팔로우 당하는 사용자이다. 기본 키(from_user, to_user) 순서로 묶어 센다.
+    @Query("select f.fromUser from Follow f group by f.fromUser having count(f) > :followerCount")
+    List<Long> findUserIdsByFollowerCountGreaterThan(@Param("followerCount") long followerCount);
 }
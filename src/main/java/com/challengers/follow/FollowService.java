@@ -3,6 +3,7 @@ package com.challengers.follow;
 
 import com.challengers.common.exception.FollowException;
 import com.challengers.common.exception.UserException;
+import com.challengers.feed.service.FeedTimelineService;
 import com.challengers.follow.domain.Follow;
 import com.challengers.follow.dto.FollowResponse;
 import com.challengers.user.domain.User;
@@ -24,6 +25,8 @@ public class FollowService {
 
     private final FollowRepository followRepository;
 
+    private final FeedTimelineService feedTimelineService;
+
     @Transactional(readOnly = true)
     public List<FollowResponse> findAllFollowers(Long userId){
         User user = userRepository.findById(userId).orElseThrow(UserException::new);
@@ -51,6 +54,7 @@ public class FollowService {
             throw new FollowException("이미 follow 한 관계입니다.");
 
         followRepository.save(new Follow(toUserId, fromUserId));
+        feedTimelineService.evictAfterCommit(toUserId);
     }
 
     @Transactional
@@ -62,6 +66,7 @@ public class FollowService {
             throw new FollowException("follow 관계가 아닙니다.");
 
         followRepository.delete(relation.get());
+        feedTimelineService.evictAfterCommit(toUserId);
     }
 
     private void checkSameUser(Long toUserId, Long fromUserId) {
@@ -2,13 +2,18 @@ package com.challengers.notification.controller;
 
 import com.challengers.notification.dto.NotificationListDto;
 import com.challengers.notification.dto.NotificationRequest;
+import com.challengers.notification.dto.NotificationSliceResponse;
+import com.challengers.notification.dto.NotificationUnreadCountResponse;
+import com.challengers.notification.service.NotificationPushService;
 import com.challengers.notification.service.NotificationService;
 import com.challengers.security.CurrentUser;
 import com.challengers.security.UserPrincipal;
 import com.challengers.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,24 +23,55 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
 
     @GetMapping("")
     public ResponseEntity<List<NotificationListDto>> getAllNotifications(@CurrentUser UserPrincipal user){
         return ResponseEntity.ok(notificationService.getAllNotifications(user.getId()));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<NotificationSliceResponse> getNotificationsByCursor(@CurrentUser UserPrincipal user,
+                                                                              @RequestParam(required = false) Long cursor,
+                                                                              @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(notificationService.getNotificationsByCursor(user.getId(), cursor, size));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponse> getUnreadCount(@CurrentUser UserPrincipal user){
+        return ResponseEntity.ok(notificationService.getUnreadCount(user.getId()));
+    }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@CurrentUser UserPrincipal user,
+                                @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId){
+        return notificationPushService.subscribe(user.getId(), lastEventId);
+    }
+
     @PostMapping("")
     public ResponseEntity<Void> saveNotification(@RequestBody NotificationRequest notificationRequest){
         notificationService.saveNotification(notificationRequest);
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/read")
+    public ResponseEntity<Void> readAllNotifications(@CurrentUser UserPrincipal userPrincipal){
+        notificationService.readAllNotifications(userPrincipal.getId());
+        return ResponseEntity.ok().build();
+    }
+
     @PatchMapping("/{notificationId}")
     public ResponseEntity<Void> updateNotification(@CurrentUser UserPrincipal userPrincipal, @PathVariable Long notificationId){
         notificationService.updateNotification(userPrincipal.getId(), notificationId);
         return ResponseEntity.ok().build();
     }
 
+    @DeleteMapping("/read")
+    public ResponseEntity<Void> deleteReadNotifications(@CurrentUser UserPrincipal userPrincipal){
+        notificationService.deleteReadNotifications(userPrincipal.getId());
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<Void> deleteNotification(@CurrentUser UserPrincipal userPrincipal, @PathVariable("notificationId") Long notificationId){
         notificationService.deleteNotification(userPrincipal.getId(), notificationId);
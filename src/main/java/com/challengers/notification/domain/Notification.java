@@ -1,5 +1,6 @@
 package com.challengers.notification.domain;
 
+import com.challengers.common.BaseTimeEntity;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,7 +11,11 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
-public class Notification {
+@Table(indexes = {
+        @Index(name = "idx_notification_recipient_id", columnList = "recipient_id, notification_id"),
+        @Index(name = "idx_notification_status_created_date", columnList = "status, created_date")
+})
+public class Notification extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "notification_id")
@@ -42,6 +47,10 @@ public class Notification {
         this.status = status;
     }
 
+    public boolean isNotRead(){
+        return status == NotificationStatus.NOT_READ;
+    }
+
     public void read(){
         this.status = NotificationStatus.READ;
     }
@@ -0,0 +1,31 @@
+package com.challengers.notification.dto;
+
+import com.challengers.notification.domain.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 여러 사용자에게 같은 내용으로 보내는 알림. NotificationPipeline 이 수신자마다 한 건씩 풀어 저장한다.
+ * senderId 가 없으면 시스템 알림이다.
+ */
+@Getter
+public class NotificationEvent {
+    private final NotificationType type;
+    private final Long senderId;
+    private final Long targetId;
+    private final String message;
+    private final List<Long> recipientIds;
+
+    @Builder
+    public NotificationEvent(NotificationType type, Long senderId, Long targetId, String message, Collection<Long> recipientIds) {
+        this.type = type;
+        this.senderId = senderId;
+        this.targetId = targetId;
+        this.message = message;
+        this.recipientIds = new ArrayList<>(recipientIds);
+    }
+}
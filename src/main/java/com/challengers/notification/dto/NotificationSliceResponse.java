@@ -0,0 +1,16 @@
+package com.challengers.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSliceResponse {
+    private List<NotificationListDto> content;
+    private Long nextCursor;
+    private boolean hasNext;
+}
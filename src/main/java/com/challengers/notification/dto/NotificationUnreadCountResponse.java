@@ -0,0 +1,12 @@
+package com.challengers.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCountResponse {
+    private long unreadCount;
+}
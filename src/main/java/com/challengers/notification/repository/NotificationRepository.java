@@ -2,13 +2,54 @@ package com.challengers.notification.repository;
 
 import com.challengers.notification.domain.Notification;
 import com.challengers.notification.dto.NotificationListDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    @Query("select new com.challengers.notification.dto.NotificationListDto(n.id,n.type,n.message,n.targetId,n.status,u.id,u.name,u.image) from Notification n INNER JOIN User u ON n.senderId = u.id where n.recipientId = :recipientId")
+    @Query("select new com.challengers.notification.dto.NotificationListDto(n.id,n.type,n.message,n.targetId,n.status,u.id,u.name,u.image) from Notification n LEFT JOIN User u ON n.senderId = u.id where n.recipientId = :recipientId")
     List<NotificationListDto> findAllNotificationByRecipientId(@Param("recipientId") Long recipientId);
+
+    @Query("select new com.challengers.notification.dto.NotificationListDto(n.id,n.type,n.message,n.targetId,n.status,u.id,u.name,u.image) " +
+            "from Notification n LEFT JOIN User u ON n.senderId = u.id " +
+            "where n.recipientId = :recipientId and n.id < :cursor order by n.id desc")
+    List<NotificationListDto> findNotificationsByRecipientIdAndIdLessThan(@Param("recipientId") Long recipientId,
+                                                                          @Param("cursor") Long cursor,
+                                                                          Pageable pageable);
+
+    @Query("select new com.challengers.notification.dto.NotificationListDto(n.id,n.type,n.message,n.targetId,n.status,u.id,u.name,u.image) " +
+            "from Notification n LEFT JOIN User u ON n.senderId = u.id " +
+            "where n.recipientId = :recipientId and n.id > :lastId order by n.id asc")
+    List<NotificationListDto> findNotificationsByRecipientIdAndIdGreaterThan(@Param("recipientId") Long recipientId,
+                                                                             @Param("lastId") Long lastId,
+                                                                             Pageable pageable);
+
+    @Modifying
+    @Query("update Notification n set n.status = com.challengers.notification.domain.NotificationStatus.READ " +
+            "where n.id = :notificationId and n.recipientId = :recipientId " +
+            "and n.status = com.challengers.notification.domain.NotificationStatus.NOT_READ")
+    int readByIdAndRecipientId(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
+
+    @Modifying
+    @Query("update Notification n set n.status = com.challengers.notification.domain.NotificationStatus.READ " +
+            "where n.recipientId = :recipientId and n.status = com.challengers.notification.domain.NotificationStatus.NOT_READ")
+    int readAllByRecipientId(@Param("recipientId") Long recipientId);
+
+    @Modifying
+    @Query("delete from Notification n " +
+            "where n.recipientId = :recipientId and n.status = com.challengers.notification.domain.NotificationStatus.READ")
+    int deleteAllReadByRecipientId(@Param("recipientId") Long recipientId);
+
+    @Modifying
+    @Query("delete from Notification n where n.id = :notificationId and n.recipientId = :recipientId " +
+            "and n.status = com.challengers.notification.domain.NotificationStatus.NOT_READ")
+    int deleteNotReadByIdAndRecipientId(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
+
+    @Modifying
+    @Query("delete from Notification n where n.id = :notificationId and n.recipientId = :recipientId")
+    int deleteByIdAndRecipientId(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
 }
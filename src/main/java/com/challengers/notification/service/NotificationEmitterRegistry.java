@@ -0,0 +1,146 @@
+package com.challengers.notification.service;
+
+import com.challengers.notification.dto.NotificationListDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별로 열려 있는 SSE 연결을 보관한다.
+ * SseEmitter 는 서블릿 비동기 요청이라 연결이 열려 있는 동안 스레드를 붙잡지 않고, 보낼 때만 호출한 스레드에서 쓴다.
+ * 한 사용자가 여러 탭/기기에서 연결할 수 있어 사용자마다 여러 개를 둔다.
+ * 쓰기는 막히는 호출이므로 한 번 쓰는 데 writeTimeout 보다 오래 걸린 연결은 느린 클라이언트로 보고 끊는다.
+ */
+@Slf4j
+@Component
+public class NotificationEmitterRegistry {
+    private static final String EVENT_NAME = "notification";
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Executor notificationPushExecutor;
+    private final long timeout;
+    private final long writeTimeoutNanos;
+    private final int heartbeatBatchSize;
+
+    public NotificationEmitterRegistry(MeterRegistry meterRegistry,
+                                       @Qualifier("notificationPushExecutor") Executor notificationPushExecutor,
+                                       @Value("${app.notification.sse.timeout-ms:1800000}") long timeout,
+                                       @Value("${app.notification.sse.write-timeout-ms:1000}") long writeTimeout,
+                                       @Value("${app.notification.sse.heartbeat-batch-size:500}") int heartbeatBatchSize) {
+        this.notificationPushExecutor = notificationPushExecutor;
+        this.timeout = timeout;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeout);
+        this.heartbeatBatchSize = heartbeatBatchSize;
+        Gauge.builder("notification.sse.connections", this, NotificationEmitterRegistry::getConnectionCount)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter add(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        emitters.compute(userId, (id, userEmitters) -> {
+            if (userEmitters == null) userEmitters = ConcurrentHashMap.newKeySet();
+            userEmitters.add(emitter);
+            return userEmitters;
+        });
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 첫 바이트를 바로 보내야 프록시가 응답 헤더를 붙잡고 있지 않는다.
+        send(userId, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    public int getConnectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public void send(Long userId, NotificationListDto notification) {
+        for (SseEmitter emitter : emitters.getOrDefault(userId, Collections.emptySet())) {
+            send(userId, emitter, notification);
+        }
+    }
+
+    public void send(Long userId, SseEmitter emitter, NotificationListDto notification) {
+        send(userId, emitter, SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(EVENT_NAME)
+                .data(notification));
+    }
+
+    /**
+     * 오래 조용한 연결은 중간의 프록시/로드밸런서가 끊으므로 주기적으로 주석 한 줄을 보낸다.
+     * 스케줄러 스레드는 연결을 heartbeatBatchSize 개씩 나눠 notificationPushExecutor 에 넘기기만 한다.
+     * 대기열이 가득 차서 못 보낸 연결은 다음 주기에 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.sse.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        List<Runnable> batch = new ArrayList<>(heartbeatBatchSize);
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter -> {
+            batch.add(() -> send(userId, emitter, SseEmitter.event().comment("heartbeat")));
+            if (batch.size() >= heartbeatBatchSize) submitHeartbeat(batch);
+        }));
+        if (!batch.isEmpty()) submitHeartbeat(batch);
+    }
+
+    @PreDestroy
+    public void completeAll() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    private void submitHeartbeat(List<Runnable> batch) {
+        List<Runnable> sends = new ArrayList<>(batch);
+        batch.clear();
+        try {
+            notificationPushExecutor.execute(() -> sends.forEach(Runnable::run));
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 전송 대기열이 가득 차 heartbeat 를 건너뜁니다 : {}건", sends.size());
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        long startedAt = System.nanoTime();
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결. 정리는 서블릿 컨테이너의 에러 콜백에 맡기고 목록에서만 뺀다.
+            log.debug("SSE 전송 실패, 연결을 제거합니다 : userId={}", userId);
+            remove(userId, emitter);
+            return;
+        }
+        if (System.nanoTime() - startedAt > writeTimeoutNanos) {
+            log.debug("SSE 전송이 느려 연결을 끊습니다 : userId={}", userId);
+            remove(userId, emitter);
+            emitter.complete();
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
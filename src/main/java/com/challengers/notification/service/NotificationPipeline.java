@@ -0,0 +1,149 @@
+package com.challengers.notification.service;
+
+import com.challengers.notification.domain.NotificationStatus;
+import com.challengers.notification.dto.NotificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 챌린지 참여자 전체처럼 여러 사용자에게 가는 알림을 비동기로 저장한다.
+ * 생산자는 커밋된 뒤 크기가 정해진 대기열에 이벤트를 넣고, 주기적으로 도는 flush 가 수신자마다 한 행으로 풀어
+ * batchSize 행씩 JDBC batch insert 한다. 대기열이 가득 차면 offerTimeoutMs 만큼 기다린 뒤 버린다(backpressure).
+ */
+@Slf4j
+@Component
+public class NotificationPipeline {
+    private static final String INSERT_NOTIFICATION = "insert into notification (sender_id, recipient_id, type, target_id, message, status, created_date, updated_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADD_UNREAD_COUNT = "update users set unread_notification_count = unread_notification_count + ? where user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationPushService notificationPushService;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final long offerTimeoutMs;
+    private final int batchSize;
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public NotificationPipeline(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                NotificationPushService notificationPushService, MeterRegistry meterRegistry,
+                                @Value("${app.notification.pipeline.queue-capacity:10000}") int queueCapacity,
+                                @Value("${app.notification.pipeline.offer-timeout-ms:100}") long offerTimeoutMs,
+                                @Value("${app.notification.pipeline.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationPushService = notificationPushService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.batchSize = batchSize;
+
+        Gauge.builder("notification.pipeline.queue.size", queue, BlockingQueue::size)
+                .description("저장을 기다리는 알림 이벤트 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("notification.pipeline.flush")
+                .description("알림 batch 하나를 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("notification.pipeline.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.pipeline.dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.pipeline.failed").register(meterRegistry);
+    }
+
+    public void publishAfterCommit(NotificationEvent event) {
+        if (event.getRecipientIds().isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+            return;
+        }
+        enqueue(event);
+    }
+
+    boolean enqueue(NotificationEvent event) {
+        try {
+            if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment(event.getRecipientIds().size());
+        log.warn("알림 대기열이 가득 차 버립니다 : type={}, targetId={}, 수신자 {}명",
+                event.getType(), event.getTargetId(), event.getRecipientIds().size());
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.pipeline.flush-interval-ms:500}")
+    public synchronized void flush() {
+        // 이번 주기에 꺼낸 이벤트만 처리해서 생산자가 계속 넣어도 flush 가 끝나지 않는 일이 없게 한다.
+        List<NotificationEvent> events = new ArrayList<>();
+        queue.drainTo(events);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (NotificationEvent event : events) {
+            for (Long recipientId : event.getRecipientIds()) {
+                rows.add(new Object[]{event.getSenderId(), recipientId, event.getType().name(),
+                        event.getTargetId(), event.getMessage(), NotificationStatus.NOT_READ.name(), now, now});
+                if (rows.size() == batchSize) {
+                    write(rows);
+                    rows = new ArrayList<>();
+                }
+            }
+        }
+        if (!rows.isEmpty()) write(rows);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<Object[]> rows) {
+        Map<Long, Integer> countsByRecipient = rows.stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[1], LinkedHashMap::new, Collectors.summingInt(row -> 1)));
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, rows);
+                jdbcTemplate.batchUpdate(ADD_UNREAD_COUNT, countsByRecipient.entrySet().stream()
+                        .map(count -> new Object[]{count.getValue(), count.getKey()})
+                        .collect(Collectors.toList()));
+            }));
+        } catch (RuntimeException e) {
+            failedCounter.increment(rows.size());
+            log.warn("알림 저장 실패 : {}건", rows.size(), e);
+            return;
+        }
+
+        writtenCounter.increment(rows.size());
+        countsByRecipient.forEach(notificationPushService::pushLatest);
+    }
+}
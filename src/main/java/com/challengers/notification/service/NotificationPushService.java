@@ -0,0 +1,109 @@
+package com.challengers.notification.service;
+
+import com.challengers.notification.domain.Notification;
+import com.challengers.notification.dto.NotificationListDto;
+import com.challengers.notification.repository.NotificationRepository;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 저장된 알림을 SSE 로 연결된 수신자에게 보낸다.
+ * 전송은 커밋된 뒤 notificationPushExecutor 에서 하므로 알림을 저장하는 트랜잭션은 기다리지 않는다.
+ * 놓친 알림은 재연결할 때 Last-Event-ID 이후의 알림을 알림 테이블에서 다시 읽어 보낸다.
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+    private static final int MAX_REPLAY_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+    private final Executor notificationPushExecutor;
+
+    public NotificationPushService(NotificationRepository notificationRepository,
+                                   UserRepository userRepository,
+                                   NotificationEmitterRegistry notificationEmitterRegistry,
+                                   @Qualifier("notificationPushExecutor") Executor notificationPushExecutor) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.notificationEmitterRegistry = notificationEmitterRegistry;
+        this.notificationPushExecutor = notificationPushExecutor;
+    }
+
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        // 먼저 등록해야 다시 읽는 사이에 저장된 알림도 놓치지 않는다. 겹치는 알림은 클라이언트가 id 로 거른다.
+        SseEmitter emitter = notificationEmitterRegistry.add(userId);
+        if (lastEventId != null) {
+            notificationRepository.findNotificationsByRecipientIdAndIdGreaterThan(userId, lastEventId, PageRequest.of(0, MAX_REPLAY_SIZE))
+                    .forEach(notification -> notificationEmitterRegistry.send(userId, emitter, notification));
+        }
+        return emitter;
+    }
+
+    public void pushAfterCommit(Notification notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(notification);
+                }
+            });
+            return;
+        }
+        submit(notification);
+    }
+
+    /**
+     * NotificationPipeline 이 한꺼번에 저장한 알림은 id 를 모르므로, 연결된 수신자에게만 최근 count 개를 다시 읽어 보낸다.
+     */
+    public void pushLatest(Long recipientId, int count) {
+        if (!notificationEmitterRegistry.isConnected(recipientId)) return;
+        try {
+            notificationPushExecutor.execute(() -> {
+                List<NotificationListDto> latest = notificationRepository.findNotificationsByRecipientIdAndIdLessThan(
+                        recipientId, Long.MAX_VALUE, PageRequest.of(0, Math.min(count, MAX_REPLAY_SIZE)));
+                for (int i = latest.size() - 1; i >= 0; i--) notificationEmitterRegistry.send(recipientId, latest.get(i));
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 전송 대기열이 가득 차 건너뜁니다 : recipientId={}", recipientId);
+        }
+    }
+
+    private void submit(Notification notification) {
+        try {
+            notificationPushExecutor.execute(() -> push(notification));
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 전송 대기열이 가득 차 건너뜁니다 : notificationId={}", notification.getId());
+        }
+    }
+
+    void push(Notification notification) {
+        if (!notificationEmitterRegistry.isConnected(notification.getRecipientId())) return;
+
+        Optional<User> sender = userRepository.findById(notification.getSenderId());
+        NotificationListDto notificationListDto = NotificationListDto.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .message(notification.getMessage())
+                .targetId(notification.getTargetId())
+                .status(notification.getStatus())
+                .senderId(notification.getSenderId())
+                .senderName(sender.map(User::getName).orElse(null))
+                .senderImage(sender.map(User::getImage).orElse(null))
+                .build();
+        notificationEmitterRegistry.send(notification.getRecipientId(), notificationListDto);
+    }
+}
@@ -1,12 +1,19 @@
 package com.challengers.notification.service;
 
+import com.challengers.common.exception.BadRequestException;
+import com.challengers.common.exception.UserException;
 import com.challengers.notification.domain.Notification;
 import com.challengers.notification.domain.NotificationStatus;
+import com.challengers.notification.dto.NotificationEvent;
 import com.challengers.notification.dto.NotificationListDto;
 import com.challengers.notification.dto.NotificationRequest;
+import com.challengers.notification.dto.NotificationSliceResponse;
+import com.challengers.notification.dto.NotificationUnreadCountResponse;
 import com.challengers.notification.repository.NotificationRepository;
+import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,13 +23,43 @@ import java.util.*;
 @RequiredArgsConstructor
 @Service
 public class NotificationService {
+    private static final int MAX_NOTIFICATION_SLICE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationPushService notificationPushService;
+    private final NotificationPipeline notificationPipeline;
 
     @Transactional(readOnly = true)
     public List<NotificationListDto> getAllNotifications(Long userId){
         return notificationRepository.findAllNotificationByRecipientId(userId);
     }
 
+    /**
+     * 받은 알림을 최신순으로 cursor(마지막으로 받은 알림 id) 이후부터 size 개 조회한다.
+     * (recipient_id, notification_id) 인덱스 범위만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationSliceResponse getNotificationsByCursor(Long userId, Long cursor, int size){
+        if (size < 1 || size > MAX_NOTIFICATION_SLICE_SIZE)
+            throw new BadRequestException("조회 개수는 1 이상 " + MAX_NOTIFICATION_SLICE_SIZE + " 이하여야 합니다.");
+
+        List<NotificationListDto> notifications = notificationRepository.findNotificationsByRecipientIdAndIdLessThan(
+                userId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size + 1));
+
+        boolean hasNext = notifications.size() > size;
+        if (hasNext) notifications = notifications.subList(0, size);
+        Long nextCursor = hasNext ? notifications.get(size - 1).getId() : null;
+
+        return new NotificationSliceResponse(notifications, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationUnreadCountResponse getUnreadCount(Long userId){
+        long unreadCount = userRepository.findUnreadNotificationCountById(userId).orElseThrow(UserException::new);
+        return new NotificationUnreadCountResponse(unreadCount);
+    }
+
     @Transactional
     public void saveNotification(NotificationRequest notificationRequest){
         Notification notification = Notification.builder()
@@ -35,21 +72,46 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        userRepository.increaseUnreadNotificationCount(notificationRequest.getRecipientId());
+        notificationPushService.pushAfterCommit(notification);
+    }
+
+    /**
+     * 여러 사용자에게 가는 알림은 호출한 트랜잭션이 커밋된 뒤 NotificationPipeline 에서 비동기로 저장한다.
+     */
+    public void publish(NotificationEvent notificationEvent){
+        notificationPipeline.publishAfterCommit(notificationEvent);
     }
 
     @Transactional
     public void updateNotification(Long userId, Long notificationId){
         Notification notification = notificationRepository.findById(notificationId).orElseThrow(NoSuchElementException::new);
-        if(notification.getRecipientId() == userId){
-            notification.read();
+        // 동시에 읽음 처리돼도 카운터가 한 번만 줄도록 읽지 않은 상태일 때만 바꾼다.
+        if(notification.getRecipientId().equals(userId)
+                && notificationRepository.readByIdAndRecipientId(notificationId, userId) > 0){
+            userRepository.decreaseUnreadNotificationCount(userId, 1);
         }
     }
 
+    @Transactional
+    public void readAllNotifications(Long userId){
+        int read = notificationRepository.readAllByRecipientId(userId);
+        if (read > 0) userRepository.decreaseUnreadNotificationCount(userId, read);
+    }
+
     @Transactional
     public void deleteNotification(Long userId, Long notificationId){
-        Notification notification = notificationRepository.findById(notificationId).orElseThrow(NoSuchElementException::new);
-        if(notification.getRecipientId() == userId){
-            notificationRepository.deleteById(notificationId);
+        // 동시에 읽음 처리/삭제돼도 카운터가 한 번만 줄도록 읽지 않은 알림을 지웠을 때만 줄인다.
+        if (notificationRepository.deleteNotReadByIdAndRecipientId(notificationId, userId) > 0) {
+            userRepository.decreaseUnreadNotificationCount(userId, 1);
+        } else if (notificationRepository.deleteByIdAndRecipientId(notificationId, userId) == 0
+                && !notificationRepository.existsById(notificationId)) {
+            throw new NoSuchElementException();
         }
     }
+
+    @Transactional
+    public void deleteReadNotifications(Long userId){
+        notificationRepository.deleteAllReadByRecipientId(userId);
+    }
 }
@@ -10,6 +10,7 @@ import javax.persistence.*;
 
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_photo_check_user_challenge_round", columnList = "user_challenge_id, round"))
 @NoArgsConstructor
 public class PhotoCheck {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,12 +38,4 @@ public class PhotoCheck {
         this.round = round;
         this.status = status;
     }
-
-    public void pass() {
-        status = PhotoCheckStatus.PASS;
-    }
-
-    public void fail() {
-        status = PhotoCheckStatus.FAIL;
-    }
 }
@@ -0,0 +1,13 @@
+package com.challengers.photocheck.dto;
+
+import com.challengers.photocheck.domain.PhotoCheckStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PhotoCheckModerationDto {
+    private Long photoCheckId;
+    private Long hostId;
+    private PhotoCheckStatus status;
+}
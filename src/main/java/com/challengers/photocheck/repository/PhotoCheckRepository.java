@@ -1,13 +1,24 @@
 package com.challengers.photocheck.repository;
 
 import com.challengers.photocheck.domain.PhotoCheck;
-import com.challengers.user.domain.User;
+import com.challengers.photocheck.domain.PhotoCheckStatus;
+import com.challengers.photocheck.dto.PhotoCheckModerationDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PhotoCheckRepository extends JpaRepository<PhotoCheck,Long> {
     Long countByUserChallengeIdAndRound(Long challengeId, Integer round);
+
+    @Query("select new com.challengers.photocheck.dto.PhotoCheckModerationDto(pc.id, c.host.id, pc.status) " +
+            "from PhotoCheck pc join pc.userChallenge uc join uc.challenge c where pc.id in :photoCheckIds")
+    List<PhotoCheckModerationDto> findModerationTargets(@Param("photoCheckIds") Collection<Long> photoCheckIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update PhotoCheck pc set pc.status = :status where pc.id in :photoCheckIds and pc.status <> :status")
+    int updateStatusByIdIn(@Param("status") PhotoCheckStatus status, @Param("photoCheckIds") Collection<Long> photoCheckIds);
 }
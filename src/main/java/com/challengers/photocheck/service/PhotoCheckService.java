@@ -6,9 +6,12 @@ import com.challengers.challenge.repository.ChallengeRepository;
 import com.challengers.challengephoto.domain.ChallengePhoto;
 import com.challengers.challengephoto.repository.ChallengePhotoRepository;
 import com.challengers.common.AwsS3Uploader;
+import com.challengers.common.ImageThumbnailGenerator;
+import com.challengers.feed.service.FeedTimelineService;
 import com.challengers.photocheck.domain.PhotoCheck;
 import com.challengers.photocheck.domain.PhotoCheckStatus;
 import com.challengers.photocheck.dto.CheckRequest;
+import com.challengers.photocheck.dto.PhotoCheckModerationDto;
 import com.challengers.photocheck.dto.PhotoCheckRequest;
 import com.challengers.photocheck.dto.PhotoCheckResponse;
 import com.challengers.photocheck.repository.PhotoCheckRepository;
@@ -17,11 +20,18 @@ import com.challengers.user.repository.UserRepository;
 import com.challengers.userchallenge.domain.UserChallenge;
 import com.challengers.userchallenge.domain.UserChallengeStatus;
 import com.challengers.userchallenge.repository.UserChallengeRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +42,9 @@ public class PhotoCheckService {
     private final ChallengePhotoRepository challengePhotoRepository;
     private final UserChallengeRepository userChallengeRepository;
     private final PhotoCheckRepository photoCheckRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageThumbnailGenerator imageThumbnailGenerator;
+    private final FeedTimelineService feedTimelineService;
 
     @Transactional(readOnly = true)
     public PhotoCheckResponse findPhotoCheck(Long photoCheckId) {
@@ -39,8 +52,43 @@ public class PhotoCheckService {
                 .findById(photoCheckId).orElseThrow(NoSuchElementException::new));
     }
 
-    @Transactional
+    /**
+     * 검증 -> (트랜잭션 밖에서) 업로드 -> 저장 순서로 처리해서 업로드하는 동안 DB 커넥션을 잡고 있지 않는다.
+     * 저장에 실패하면 업로드한 사진을 삭제한다.
+     */
     public Long addPhotoCheck(PhotoCheckRequest photoCheckRequest, Long userId) {
+        PhotoCheckTarget target = transactionTemplate.execute(status -> findPhotoCheckTarget(photoCheckRequest, userId));
+
+        String photoUrl = awsS3Uploader.uploadImage(photoCheckRequest.getPhoto());
+        try {
+            return transactionTemplate.execute(status -> {
+                ChallengePhoto challengePhoto = ChallengePhoto.builder()
+                        .challenge(target.getChallenge())
+                        .user(target.getUser())
+                        .photoUrl(photoUrl)
+                        .build();
+                challengePhotoRepository.save(challengePhoto);
+                imageThumbnailGenerator.generateAfterCommit(photoUrl,
+                        thumbnailUrl -> challengePhotoRepository.updateThumbnailUrl(challengePhoto.getId(), thumbnailUrl));
+                feedTimelineService.fanOutAfterCommit(userId, challengePhoto.getId());
+
+                PhotoCheck photoCheck = PhotoCheck.builder()
+                        .userChallenge(target.getUserChallenge())
+                        .challengePhoto(challengePhoto)
+                        .round(target.getChallenge().getRound())
+                        .status(PhotoCheckStatus.WAITING)
+                        .build();
+                photoCheckRepository.save(photoCheck);
+
+                return photoCheck.getId();
+            });
+        } catch (RuntimeException e) {
+            awsS3Uploader.deleteUploadedImages(Collections.singletonList(photoUrl));
+            throw e;
+        }
+    }
+
+    private PhotoCheckTarget findPhotoCheckTarget(PhotoCheckRequest photoCheckRequest, Long userId) {
         Challenge challenge = challengeRepository.findById(photoCheckRequest.getChallengeId()).orElseThrow(NoSuchElementException::new);
         if (!challenge.getStatus().equals(ChallengeStatus.IN_PROGRESS))
             throw new RuntimeException("진행중인 챌린지가 아닙니다.");
@@ -56,61 +104,43 @@ public class PhotoCheckService {
                 >= challenge.getCheckTimesPerRound())
             throw new RuntimeException("이미 해당 회차에 인증 사진을 전부 올렸습니다.");
 
-        java.lang.String photoUrl = awsS3Uploader.uploadImage(photoCheckRequest.getPhoto());
-        ChallengePhoto challengePhoto = ChallengePhoto.builder()
-                .challenge(challenge)
-                .user(user)
-                .photoUrl(photoUrl)
-                .build();
-        challengePhotoRepository.save(challengePhoto);
-
-        PhotoCheck photoCheck = PhotoCheck.builder()
-                .userChallenge(userChallenge)
-                .challengePhoto(challengePhoto)
-                .round(challenge.getRound())
-                .status(PhotoCheckStatus.WAITING)
-                .build();
-        photoCheckRepository.save(photoCheck);
-
-        return photoCheck.getId();
+        return new PhotoCheckTarget(challenge, user, userChallenge);
     }
 
-    // TODO : Bulk Update 적용하기
     @Transactional
     public void passPhotoCheck(CheckRequest checkRequest, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
-        User host = photoCheckRepository.findById(checkRequest.getPhotoCheckIds().get(0))
-                .orElseThrow(NoSuchElementException::new)
-                .getUserChallenge().getChallenge().getHost();
-        if (!host.getId().equals(userId))
-            throw new RuntimeException("인증샷을 처리할 권한이 없습니다.");
-
-        for (Long photoCheckId : checkRequest.getPhotoCheckIds()) {
-            PhotoCheck photoCheck = photoCheckRepository.findById(photoCheckId)
-                    .orElseThrow(NoSuchElementException::new);
-            if (photoCheck.getStatus().equals(PhotoCheckStatus.PASS))
-                throw new RuntimeException("이미 인증 통과된 사진이 있습니다.");
-            photoCheck.pass();
-        }
+        moderate(checkRequest, userId, PhotoCheckStatus.PASS, "이미 인증 통과된 사진이 있습니다.");
     }
 
-    // TODO : Bulk Update 적용하기
     @Transactional
     public void failPhotoCheck(CheckRequest checkRequest, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
-        User host = photoCheckRepository.findById(checkRequest.getPhotoCheckIds().get(0))
-                .orElseThrow(NoSuchElementException::new)
-                .getUserChallenge().getChallenge().getHost();
-        if (!host.getId().equals(userId))
-            throw new RuntimeException("인증샷을 처리할 권한이 없습니다.");
-
-        for (Long photoCheckId : checkRequest.getPhotoCheckIds()) {
-            PhotoCheck photoCheck = photoCheckRepository.findById(photoCheckId)
-                    .orElseThrow(NoSuchElementException::new);
-            if (photoCheck.getStatus().equals(PhotoCheckStatus.FAIL))
-                throw new RuntimeException("이미 인증 실패 처리된 사진이 있습니다.");
-            photoCheck.fail();
+        moderate(checkRequest, userId, PhotoCheckStatus.FAIL, "이미 인증 실패 처리된 사진이 있습니다.");
+    }
+
+    private void moderate(CheckRequest checkRequest, Long userId, PhotoCheckStatus status, String alreadyProcessedMessage) {
+        Set<Long> photoCheckIds = new HashSet<>(checkRequest.getPhotoCheckIds());
+        if (photoCheckIds.isEmpty())
+            throw new RuntimeException("처리할 인증샷이 없습니다.");
+
+        List<PhotoCheckModerationDto> targets = photoCheckRepository.findModerationTargets(photoCheckIds);
+        if (targets.size() != photoCheckIds.size())
+            throw new NoSuchElementException();
+
+        for (PhotoCheckModerationDto target : targets) {
+            if (!userId.equals(target.getHostId()))
+                throw new RuntimeException("인증샷을 처리할 권한이 없습니다.");
+            if (status.equals(target.getStatus()))
+                throw new RuntimeException(alreadyProcessedMessage);
         }
+
+        photoCheckRepository.updateStatusByIdIn(status, photoCheckIds);
     }
 
+    @Getter
+    @AllArgsConstructor
+    private static class PhotoCheckTarget {
+        private Challenge challenge;
+        private User user;
+        private UserChallenge userChallenge;
+    }
 }
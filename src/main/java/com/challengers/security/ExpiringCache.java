@@ -0,0 +1,67 @@
+package com.challengers.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청마다 읽히는 인증 캐시. 읽기는 ConcurrentHashMap 조회 하나로 끝나고 전역 잠금을 잡지 않는다.
+ * 만료는 읽을 때 확인하고, 크기가 maxSize 를 넘으면 한 스레드만 만료된 항목부터 지운 뒤 그래도 많으면 임의의 항목을 지운다(근사 제거).
+ */
+class ExpiringCache<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    ExpiringCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    V get(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+        if (now < entry.expiresAt) return entry.value;
+        entries.remove(key, entry);
+        return null;
+    }
+
+    void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+        if (entries.size() > maxSize) evict(System.currentTimeMillis());
+    }
+
+    void remove(K key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            // 매번 넘을 때마다 지우지 않도록 maxSize 의 90% 까지 줄인다.
+            int target = maxSize - maxSize / 10;
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
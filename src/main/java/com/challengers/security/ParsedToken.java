@@ -0,0 +1,41 @@
+package com.challengers.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명을 한 번 확인한 결과. 유효하면 claims 를, 아니면 failure 를 담는다.
+ * 만료된 토큰은 서명이 확인된 것이므로 재발급에 쓸 수 있도록 claims 도 함께 담는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParsedToken {
+    private final Claims claims;
+    private final TokenFailure failure;
+
+    static ParsedToken valid(Claims claims) {
+        return new ParsedToken(claims, null);
+    }
+
+    static ParsedToken expired(Claims claims) {
+        return new ParsedToken(claims, TokenFailure.EXPIRED);
+    }
+
+    static ParsedToken failed(TokenFailure failure) {
+        return new ParsedToken(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+
+    public boolean isExpired() {
+        return failure == TokenFailure.EXPIRED;
+    }
+
+    public Long getUserId() {
+        return claims == null ? null : Long.parseLong(claims.getSubject());
+    }
+}
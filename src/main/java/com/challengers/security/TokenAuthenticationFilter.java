@@ -1,5 +1,7 @@
 package com.challengers.security;
 
+import com.challengers.config.AppProperties;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +17,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
@@ -22,6 +25,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private TokenProvider tokenProvider;
     @Autowired
     private CustomUSerDetailsService customUSerDetailsService;
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    @Autowired
+    private UserStatusCache userStatusCache;
+    @Autowired
+    private AppProperties appProperties;
 
     private static final Logger logger = LoggerFactory.getLogger(TokenAuthenticationFilter.class);
 
@@ -32,13 +41,15 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         try{
             String jwt = getJwtFromRequest(request);
 
-            if(StringUtils.hasText(jwt) && tokenProvider.validateAccessToken(jwt)){
-                Long userId = tokenProvider.getUserIdFromAccessToken(jwt);
-                UserDetails userDetails = customUSerDetailsService.loadUserById(userId);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
-                        null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            ParsedToken parsedToken = StringUtils.hasText(jwt) ? verifiedTokenCache.parseAccessToken(jwt) : null;
+            if(parsedToken != null && parsedToken.isValid()){
+                UserDetails userDetails = loadUser(parsedToken.getClaims());
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
+                            null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         }
         catch (Exception ex){
@@ -47,6 +58,20 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * stateless 모드에서는 토큰의 클레임으로 UserPrincipal 을 만들고, 탈퇴/폐기 여부만 UserStatusCache 로 확인한다.
+     * 클레임이 없는 이전 형식의 토큰은 DB 에서 사용자를 조회한다. 인증할 수 없으면 null 을 반환한다.
+     */
+    private UserDetails loadUser(Claims claims) {
+        if (appProperties.getAuth().isStateless()) {
+            Optional<UserPrincipal> userPrincipal = tokenProvider.getUserPrincipal(claims);
+            if (userPrincipal.isPresent()) {
+                return userStatusCache.isActive(userPrincipal.get().getId(), claims.getIssuedAt()) ? userPrincipal.get() : null;
+            }
+        }
+        return customUSerDetailsService.loadUserById(Long.parseLong(claims.getSubject()));
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         logger.info("헤더에서 가져온 토큰" + bearerToken);
@@ -0,0 +1,17 @@
+package com.challengers.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TokenFailure {
+    INVALID_SIGNATURE("유효하지 않은 JWT 서명"),
+    MALFORMED("유효하지 않은 JWT 토큰"),
+    EXPIRED("만료된 JWT 토큰"),
+    UNSUPPORTED("지원하지 않는 JWT 토큰"),
+    EMPTY("비어있는 JWT"),
+    REVOKED("폐기된 JWT 토큰");
+
+    private final String message;
+}
@@ -1,141 +1,159 @@
 package com.challengers.security;
 
 import com.challengers.config.AppProperties;
+import com.challengers.user.domain.Role;
 import com.challengers.user.domain.User;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * 서명 키와 JwtParser 는 시작할 때 한 번만 만들어 재사용하고, 토큰은 parseAccessToken/parseRefreshToken 으로
+ * 요청마다 한 번만 검증한다.
+ */
 @Service
 public class TokenProvider {
     public static final int REFRESH_TOKEN_RENEWAL_HOUR = 24;
 
+    static final String EMAIL_CLAIM = "email";
+    static final String ROLE_CLAIM = "role";
+
     private static final Logger log = LoggerFactory.getLogger(TokenProvider.class);
 
-    private AppProperties appProperties;
+    private final AppProperties appProperties;
+    private final Key accessTokenKey;
+    private final Key refreshTokenKey;
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
 
     public TokenProvider(AppProperties appProperties) {
         this.appProperties = appProperties;
+        this.accessTokenKey = signingKey(appProperties.getAuth().getAccessTokenSecret());
+        this.refreshTokenKey = signingKey(appProperties.getAuth().getRefreshTokenSecret());
+        this.accessTokenParser = parser(accessTokenKey);
+        this.refreshTokenParser = parser(refreshTokenKey);
     }
 
-    public String createAccessToken(Authentication authentication) {
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+    // jjwt 가 문자열 비밀키를 받을 때와 같게 Base64 로 풀어 HS512 키를 만든다. 비밀키가 설정되지 않았으면 null.
+    private static Key signingKey(String base64EncodedSecret) {
+        if (!StringUtils.hasText(base64EncodedSecret)) return null;
+        return new SecretKeySpec(TextCodec.BASE64.decode(base64EncodedSecret), SignatureAlgorithm.HS512.getJcaName());
+    }
 
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + appProperties.getAuth().getAccessTokenExpirationMsec());
-        return Jwts.builder()
-                .setSubject(Long.toString(userPrincipal.getId()))
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, appProperties.getAuth().getAccessTokenSecret())
-                .compact();
+    private static JwtParser parser(Key key) {
+        return key == null ? null : Jwts.parser().setSigningKey(key);
+    }
+
+    public String createAccessToken(Authentication authentication) {
+        return createAccessToken((UserPrincipal) authentication.getPrincipal());
     }
 
     public String createRefreshToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + appProperties.getAuth().getRefreshTokenExpirationMsec());
-        return Jwts.builder()
-                .setSubject(Long.toString(userPrincipal.getId()))
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, appProperties.getAuth().getRefreshTokenSecret())
-                .compact();
+        return createRefreshToken(userPrincipal.getId());
     }
 
     public String createAccessTokenByUserEntity(User user) {
+        return createAccessToken(UserPrincipal.create(user));
+    }
+
+    public String createRefreshTokenByUserEntity(User user) {
+        return createRefreshToken(user.getId());
+    }
+
+    /**
+     * 액세스 토큰에는 UserPrincipal 을 만드는 데 필요한 id, email, 권한을 함께 담아
+     * 요청마다 사용자를 조회하지 않고 인증할 수 있게 한다. (TokenAuthenticationFilter)
+     */
+    private String createAccessToken(UserPrincipal userPrincipal) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + appProperties.getAuth().getAccessTokenExpirationMsec());
+        String role = userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(Role.USER.getKey());
 
         return Jwts.builder()
-                .setSubject(Long.toString(user.getId()))
-                .setIssuedAt(new Date())
+                .setSubject(Long.toString(userPrincipal.getId()))
+                .claim(EMAIL_CLAIM, userPrincipal.getEmail())
+                .claim(ROLE_CLAIM, role)
+                .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, appProperties.getAuth().getAccessTokenSecret())
+                .signWith(SignatureAlgorithm.HS512, accessTokenKey)
                 .compact();
     }
 
-    public String createRefreshTokenByUserEntity(User user) {
+    private String createRefreshToken(Long userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + appProperties.getAuth().getRefreshTokenExpirationMsec());
 
         return Jwts.builder()
-                .setSubject(Long.toString(user.getId()))
-                .setIssuedAt(new Date())
+                .setSubject(Long.toString(userId))
+                .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, appProperties.getAuth().getRefreshTokenSecret())
+                .signWith(SignatureAlgorithm.HS512, refreshTokenKey)
                 .compact();
     }
 
-    public Long getUserIdFromAccessToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(appProperties.getAuth().getAccessTokenSecret())
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.parseLong(claims.getSubject());
+    public ParsedToken parseAccessToken(String accessToken) {
+        return parse(accessTokenParser, accessToken);
     }
 
-    public Long getUserIdFromRefreshToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(appProperties.getAuth().getRefreshTokenSecret())
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.parseLong(claims.getSubject());
+    public ParsedToken parseRefreshToken(String refreshToken) {
+        return parse(refreshTokenParser, refreshToken);
     }
 
-    public boolean validateAccessToken(String accessToken) {
+    private ParsedToken parse(JwtParser parser, String token) {
+        if (parser == null) return failed(ParsedToken.failed(TokenFailure.INVALID_SIGNATURE));
         try {
-            Jwts.parser().setSigningKey(appProperties.getAuth().getAccessTokenSecret()).parseClaimsJws(accessToken);
-            return true;
+            return ParsedToken.valid(parser.parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException ex) {
+            return failed(ParsedToken.expired(ex.getClaims()));
         } catch (SignatureException ex) {
-            log.error("유효하지 않은 JWT 서명");
+            return failed(ParsedToken.failed(TokenFailure.INVALID_SIGNATURE));
         } catch (MalformedJwtException ex) {
-            log.error("유효하지 않은 JWT 토큰");
-        } catch (ExpiredJwtException ex) {
-            log.error("만료된 JWT 토큰");
+            return failed(ParsedToken.failed(TokenFailure.MALFORMED));
         } catch (UnsupportedJwtException ex) {
-            log.error("지원하지 않는 JWT 토큰");
+            return failed(ParsedToken.failed(TokenFailure.UNSUPPORTED));
         } catch (IllegalArgumentException ex) {
-            log.error("비어있는 JWT");
+            return failed(ParsedToken.failed(TokenFailure.EMPTY));
+        } catch (JwtException ex) {
+            return failed(ParsedToken.failed(TokenFailure.MALFORMED));
         }
-        return false;
     }
 
-    public boolean isOverRefreshTokenRenewalHour(String refreshToken) {
-        try {
-            Claims claims = Jwts.parser().setSigningKey(appProperties.getAuth().getRefreshTokenSecret()).parseClaimsJws(refreshToken).getBody();
-            long exp = claims.getExpiration().getTime();
-            long now = new Date().getTime();
-            return (exp - now) / 3600000 >= REFRESH_TOKEN_RENEWAL_HOUR; //1시간
-        } catch (SignatureException ex) {
-            log.error("유효하지 않은 JWT 서명");
-        } catch (MalformedJwtException ex) {
-            log.error("유효하지 않은 JWT 토큰");
-        } catch (ExpiredJwtException ex) {
-            log.error("만료된 JWT 토큰");
-        } catch (UnsupportedJwtException ex) {
-            log.error("지원하지 않는 JWT 토큰");
-        } catch (IllegalArgumentException ex) {
-            log.error("비어있는 JWT");
-        }
-        return false;
+    private ParsedToken failed(ParsedToken parsedToken) {
+        log.error(parsedToken.getFailure().getMessage());
+        return parsedToken;
     }
 
-    public boolean isAccessTokenExpired(String accessToken) {
-        try {
-            Jwts.parser().setSigningKey(appProperties.getAuth().getAccessTokenSecret()).parseClaimsJws(accessToken);
-            return false;
-        } catch (ExpiredJwtException ex) {
-            log.error("만료된 JWT 토큰");
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("유효하지 않은 JWT");
-        }
-        return false;
+    /**
+     * 서명이 확인된 클레임으로 UserPrincipal 을 만든다. email, role 클레임이 없는 이전 형식의 토큰이면 비어 있다.
+     */
+    public Optional<UserPrincipal> getUserPrincipal(Claims claims) {
+        String email = claims.get(EMAIL_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (email == null || role == null) return Optional.empty();
+
+        return Optional.of(new UserPrincipal(Long.parseLong(claims.getSubject()), email,
+                Collections.singletonList(new SimpleGrantedAuthority(role))));
+    }
+
+    public boolean isOverRefreshTokenRenewalHour(Claims refreshTokenClaims) {
+        long exp = refreshTokenClaims.getExpiration().getTime();
+        long now = new Date().getTime();
+        return (exp - now) / 3600000 >= REFRESH_TOKEN_RENEWAL_HOUR; //1시간
     }
 }
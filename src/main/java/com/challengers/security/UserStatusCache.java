@@ -0,0 +1,67 @@
+package com.challengers.security;
+
+import com.challengers.config.AppProperties;
+import com.challengers.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰의 클레임만으로 인증할 때 탈퇴했거나 토큰이 폐기된 사용자를 걸러낸다.
+ * 사용자 존재 여부는 ttl 동안 캐시해서 사용자마다 ttl 에 한 번만 조회하고, 최대 maxUsers 명만 보관한다.
+ * 폐기 시각은 액세스 토큰 유효 시간 동안만 보관한다. 그 전에 발급된 토큰은 그 뒤엔 이미 만료되어 있다.
+ */
+@Component
+public class UserStatusCache {
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final long accessTokenExpirationMsec;
+    private final ExpiringCache<Long, Boolean> users;
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public UserStatusCache(UserRepository userRepository, AppProperties appProperties,
+                           @Value("${app.security.user-cache.ttl-ms:60000}") long ttlMillis,
+                           @Value("${app.security.user-cache.max-users:10000}") int maxUsers) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.accessTokenExpirationMsec = appProperties.getAuth().getAccessTokenExpirationMsec();
+        this.users = new ExpiringCache<>(maxUsers);
+    }
+
+    /**
+     * issuedAt 에 발급된 토큰이 아직 유효한 사용자의 것인지 확인한다.
+     */
+    public boolean isActive(Long userId, Date issuedAt) {
+        Long revoked = revokedAt.get(userId);
+        // iat 는 초 단위로 잘리므로 폐기 시각과 같은 초에 발급된 토큰도 폐기된 것으로 본다.
+        if (revoked != null && (issuedAt == null || issuedAt.getTime() <= revoked)) return false;
+        return exists(userId);
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 액세스 토큰을 더 이상 받지 않는다. 로그아웃, 탈퇴, 토큰 탈취가 의심될 때 호출한다.
+     */
+    public void revoke(Long userId) {
+        long now = System.currentTimeMillis();
+        revokedAt.values().removeIf(revoked -> now - revoked > accessTokenExpirationMsec);
+        revokedAt.put(userId, now);
+        users.remove(userId);
+    }
+
+    private boolean exists(Long userId) {
+        long now = System.currentTimeMillis();
+        Boolean cached = users.get(userId, now);
+        if (cached != null) return cached;
+
+        boolean exists = userRepository.existsById(userId);
+        users.put(userId, exists, now + ttlMillis);
+        return exists;
+    }
+
+    int size() {
+        return users.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.challengers.security;
+
+import com.challengers.config.AppProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트는 만료될 때까지 같은 액세스 토큰을 보내므로, 한 번 서명을 확인한 토큰은 만료 시각(exp)까지 결과를 재사용한다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 쓰고, 최대 maxTokens 개만 보관한다.
+ * 리프레시 토큰을 교체하면 이전 액세스 토큰은 서명이 유효해도 폐기 목록에 넣어 만료될 때까지 받지 않는다.
+ * 폐기 목록은 인스턴스마다 따로 가진다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final TokenProvider tokenProvider;
+    private final long accessTokenExpirationMsec;
+    private final ExpiringCache<String, ParsedToken> tokens;
+    private final Map<String, Long> deniedUntil = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(TokenProvider tokenProvider, AppProperties appProperties,
+                              @Value("${app.security.token-cache.max-tokens:10000}") int maxTokens) {
+        this.tokenProvider = tokenProvider;
+        this.accessTokenExpirationMsec = appProperties.getAuth().getAccessTokenExpirationMsec();
+        this.tokens = new ExpiringCache<>(maxTokens);
+    }
+
+    /**
+     * 폐기된 토큰이면 REVOKED 로 실패한다. 캐시에 있으면 서명 확인 없이 반환하고,
+     * 없으면 TokenProvider 로 확인한 뒤 유효한 토큰만 캐시한다.
+     */
+    public ParsedToken parseAccessToken(String accessToken) {
+        String key = TokenDigest.sha256(accessToken);
+        long now = System.currentTimeMillis();
+
+        if (isDenied(key, now)) return ParsedToken.failed(TokenFailure.REVOKED);
+
+        ParsedToken cached = tokens.get(key, now);
+        if (cached != null) return cached;
+
+        ParsedToken parsedToken = tokenProvider.parseAccessToken(accessToken);
+        if (parsedToken.isValid() && parsedToken.getClaims().getExpiration() != null) {
+            tokens.put(key, parsedToken, parsedToken.getClaims().getExpiration().getTime());
+        }
+        return parsedToken;
+    }
+
+    /**
+     * 해시가 accessTokenHash 인 액세스 토큰을 더 이상 받지 않는다. 토큰은 발급 후 액세스 토큰 유효 시간 안에 만료되므로
+     * 지금부터 그 시간 동안만 폐기 목록에 둔다.
+     */
+    public void deny(String accessTokenHash) {
+        long now = System.currentTimeMillis();
+        deniedUntil.values().removeIf(until -> until <= now);
+        deniedUntil.put(accessTokenHash, now + accessTokenExpirationMsec);
+        tokens.remove(accessTokenHash);
+    }
+
+    private boolean isDenied(String key, long now) {
+        Long until = deniedUntil.get(key);
+        if (until == null) return false;
+        if (now < until) return true;
+        deniedUntil.remove(key, until);
+        return false;
+    }
+
+    int size() {
+        return tokens.size();
+    }
+}
@@ -5,10 +5,11 @@ import com.challengers.security.UserPrincipal;
 import com.challengers.security.oauth.user.OAuth2UserInfo;
 import com.challengers.security.oauth.user.OAuth2UserInfoFactory;
 import com.challengers.user.domain.*;
-import com.challengers.user.repository.AchievementRepository;
+import com.challengers.user.dto.UserVisitedEvent;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -18,7 +19,6 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -31,7 +31,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
-    private final AchievementRepository achievementRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -69,22 +69,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             }
             //이미 존재하는 회원 사이트로 부터 변경된 정보 업데이트.
             //user = updateExistingUser(user, oAuth2UserInfo);
-            System.out.println(Duration.between(user.getVisitTime().atStartOfDay(), LocalDate.now().atStartOfDay()).toDays());
-            if(Duration.between(user.getVisitTime().atStartOfDay(), LocalDate.now().atStartOfDay()).toDays()==1){ //출석 로직
-                user.update(LocalDate.now(), user.getAttendanceCount()+1);
-                userRepository.save(user);
-                if(user.getAttendanceCount() >= 30){
-                    Achievement achievement = Achievement.builder()
-                            .user(user)
-                            .award(Award.PERFECT_ATTENDANCE)
-                            .build();
-
-                    achievementRepository.save(achievement);
-                }
-            }else{
-                user.update(LocalDate.now(), user.getAttendanceCount());
-                userRepository.save(user);
-            }
+            eventPublisher.publishEvent(new UserVisitedEvent(user.getId(), LocalDate.now()));
         }else{
             log.info("새로운 회원 등록");
             user = registerNewUser(userRequest, oAuth2UserInfo);
@@ -6,6 +6,7 @@ import com.challengers.common.exception.BadRequestException;
 import com.challengers.config.AppProperties;
 import com.challengers.security.TokenProvider;
 import com.challengers.security.UserPrincipal;
+import com.challengers.security.VerifiedTokenCache;
 import com.challengers.util.CookieUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -32,15 +33,19 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
 
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
     public OAuth2AuthenticationSuccessHandler(TokenProvider tokenProvider,
                                               RefreshTokenRepository refreshTokenRepository,
                                               AppProperties appProperties,
-                                              HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository) {
+                                              HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository,
+                                              VerifiedTokenCache verifiedTokenCache) {
         this.tokenProvider = tokenProvider;
         this.refreshTokenRepository = refreshTokenRepository;
         this.appProperties = appProperties;
         this.httpCookieOAuth2AuthorizationRequestRepository = httpCookieOAuth2AuthorizationRequestRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -75,15 +80,18 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
-        RefreshToken newRefreshToken = refreshTokenRepository.findByUserId(userPrincipal.getId())
-                .orElseGet(() -> refreshTokenRepository.save(RefreshToken.builder()
-                        .refreshToken(refreshToken)
-                        .accessToken(accessToken)
-                        .userId(userPrincipal.getId())
-                        .build()));
-
-        newRefreshToken.update(accessToken, refreshToken);
-        refreshTokenRepository.save(newRefreshToken);
+        Optional<RefreshToken> savedRefreshToken = refreshTokenRepository.findByUserId(userPrincipal.getId());
+        if (savedRefreshToken.isPresent()) {
+            verifiedTokenCache.deny(savedRefreshToken.get().getAccessTokenHash());
+            savedRefreshToken.get().update(accessToken, refreshToken);
+            refreshTokenRepository.save(savedRefreshToken.get());
+        } else {
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .refreshToken(refreshToken)
+                    .accessToken(accessToken)
+                    .userId(userPrincipal.getId())
+                    .build());
+        }
 
         Cookie accessTokenCookie = new Cookie("accessToken", accessToken);
         accessTokenCookie.setPath("/");
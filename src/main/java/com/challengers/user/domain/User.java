@@ -51,12 +51,19 @@ public class User {
 
     private String providerId;
 
+    // 출석은 AttendanceService 가 UserRepository 의 update 쿼리로만 바꾼다.
+    @Column(updatable = false)
     private LocalDate visitTime;
 
+    @Column(updatable = false)
     private Long attendanceCount;
 
     private Long challengeCount;
 
+    // 엔티티 변경 감지로 덮어쓰지 않도록 UserRepository 의 update 쿼리로만 바꾼다.
+    @Column(columnDefinition = "bigint default 0 not null", insertable = false, updatable = false)
+    private long unreadNotificationCount;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE)
     List<Achievement> awards = new ArrayList<>();
 
@@ -69,11 +76,6 @@ public class User {
         this.challengeCount = challengeCount;
     }
 
-    public void update(LocalDate visitTime, Long attendanceCount) {
-        this.visitTime = visitTime;
-        this.attendanceCount = attendanceCount;
-    }
-
     public void update(String name, String bio, String image){
         this.name = name;
         this.bio = bio;
@@ -0,0 +1,16 @@
+package com.challengers.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자가 로그인한 날. AttendanceService 가 커밋된 뒤 비동기로 출석과 업적을 반영한다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserVisitedEvent {
+    private final Long userId;
+    private final LocalDate visitDate;
+}
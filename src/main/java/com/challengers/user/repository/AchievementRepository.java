@@ -4,6 +4,7 @@ import com.challengers.user.domain.Achievement;
 import com.challengers.user.domain.Award;
 import com.challengers.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,4 +14,9 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
 
     @Query("select a.award from Achievement a where a.user = :user")
     List<Award> findAllByUser(@Param("user") User user);
+
+    @Modifying
+    @Query(value = "insert into achievement (user_id, award) select :userId, :award from dual " +
+            "where not exists (select 1 from achievement where user_id = :userId and award = :award)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("award") String award);
 }
@@ -3,9 +3,11 @@ package com.challengers.user.repository;
 
 import com.challengers.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +19,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("Select u From User u where u.name like :name%")
     List<User> findUserByName(@Param("name") String name);
-}
\ No newline at end of file
+
+    @Query("select u.unreadNotificationCount from User u where u.id = :userId")
+    Optional<Long> findUnreadNotificationCountById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "update users set unread_notification_count = unread_notification_count + 1 where user_id = :userId", nativeQuery = true)
+    int increaseUnreadNotificationCount(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "update users set unread_notification_count = greatest(unread_notification_count - :count, 0) where user_id = :userId", nativeQuery = true)
+    int decreaseUnreadNotificationCount(@Param("userId") Long userId, @Param("count") long count);
+
+    @Query("select u.attendanceCount from User u where u.id = :userId")
+    Optional<Long> findAttendanceCountById(@Param("userId") Long userId);
+
+    // 오늘 처음 방문했을 때만 갱신한다. 전날에도 방문했으면 연속 출석 일수를 늘린다.
+    @Modifying
+    @Query(value = "update users set attendance_count = case when visit_time = :yesterday " +
+            "then coalesce(attendance_count, 0) + 1 else coalesce(attendance_count, 0) end, visit_time = :today " +
+            "where user_id = :userId and (visit_time is null or visit_time < :today)", nativeQuery = true)
+    int recordVisit(@Param("userId") Long userId, @Param("today") LocalDate today, @Param("yesterday") LocalDate yesterday);
+}
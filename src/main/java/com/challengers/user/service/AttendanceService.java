@@ -0,0 +1,61 @@
+package com.challengers.user.service;
+
+import com.challengers.user.domain.Award;
+import com.challengers.user.dto.UserVisitedEvent;
+import com.challengers.user.repository.AchievementRepository;
+import com.challengers.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+
+/**
+ * 로그인한 사용자의 출석을 기록한다. 로그인 트랜잭션이 커밋된 뒤 attendanceExecutor 에서 실행되므로 로그인 응답을 늦추지 않는다.
+ * 전날 방문했으면 연속 출석 일수를 하나 늘리고, PERFECT_ATTENDANCE_DAYS 일이 되면 개근 업적을 준다.
+ * 출석과 업적은 조건부 쿼리로 반영해서 하루에 여러 번 로그인하거나 이벤트가 중복되어도 한 번만 반영된다.
+ */
+@Slf4j
+@Service
+public class AttendanceService {
+    public static final long PERFECT_ATTENDANCE_DAYS = 30L;
+
+    private final UserRepository userRepository;
+    private final AchievementRepository achievementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor attendanceExecutor;
+
+    public AttendanceService(UserRepository userRepository,
+                             AchievementRepository achievementRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("attendanceExecutor") Executor attendanceExecutor) {
+        this.userRepository = userRepository;
+        this.achievementRepository = achievementRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.attendanceExecutor = attendanceExecutor;
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트(OAuth2 로그인)도 바로 처리한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserVisited(UserVisitedEvent event) {
+        attendanceExecutor.execute(() -> recordVisit(event.getUserId(), event.getVisitDate()));
+    }
+
+    void recordVisit(Long userId, LocalDate visitDate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (userRepository.recordVisit(userId, visitDate, visitDate.minusDays(1)) == 0) return; // 오늘 이미 출석함
+
+                long attendanceCount = userRepository.findAttendanceCountById(userId).orElse(0L);
+                if (attendanceCount >= PERFECT_ATTENDANCE_DAYS) {
+                    achievementRepository.insertIfAbsent(userId, Award.PERFECT_ATTENDANCE.name());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("출석 반영 실패 : userId={}, visitDate={}", userId, visitDate, e);
+        }
+    }
+}
@@ -12,9 +12,11 @@ import com.challengers.user.repository.AchievementRepository;
 import com.challengers.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.transaction.Transactional;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -25,6 +27,7 @@ public class UserService {
     private final FollowRepository followRepository;
     private final AchievementRepository achievementRepository;
     private final AwsS3Uploader awsS3Uploader;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public UserMeResponse getCurrentUser(Long userId){
@@ -40,24 +43,38 @@ public class UserService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 새 프로필 이미지는 트랜잭션 밖에서 먼저 업로드하고, 기존 이미지 삭제는 DB 반영이 끝난 뒤에 한다.
+     */
     public void updateUser(Long userId, UserUpdateRequest userUpdateRequest){
-        User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
-
         String changeName = userUpdateRequest.getName();
         String changeBio = userUpdateRequest.getBio();
         MultipartFile image = userUpdateRequest.getImage();
 
-        if(image == null){
-            if(userUpdateRequest.getIsImageChanged()){
-                awsS3Uploader.deleteImage(user.getImage());
-                user.update(changeName, changeBio, User.DEFAULT_IMAGE_URL);
-            }else{
+        String uploadedImageUrl = image == null ? null : awsS3Uploader.uploadImage(image);
+        String imageToDelete;
+        try {
+            imageToDelete = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(userId).orElseThrow(NoSuchElementException::new);
+                if (uploadedImageUrl != null) {
+                    user.update(changeName, changeBio, uploadedImageUrl);
+                    return null;
+                }
+                if (userUpdateRequest.getIsImageChanged()) {
+                    String previousImage = user.getImage();
+                    user.update(changeName, changeBio, User.DEFAULT_IMAGE_URL);
+                    return previousImage;
+                }
                 user.update(changeName, changeBio, user.getImage());
-            }
-        }else{
-            String imageUrl = awsS3Uploader.uploadImage(image);
-            user.update(changeName, changeBio, imageUrl);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (uploadedImageUrl != null)
+                awsS3Uploader.deleteUploadedImages(Collections.singletonList(uploadedImageUrl));
+            throw e;
         }
+
+        if (imageToDelete != null && !imageToDelete.equals(User.DEFAULT_IMAGE_URL))
+            awsS3Uploader.deleteImage(imageToDelete);
     }
 }
@@ -0,0 +1,21 @@
+package com.challengers.userchallenge;
+
+import com.challengers.challenge.repository.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ChallengeJoinAdmission {
+    private final ChallengeRepository challengeRepository;
+
+    /**
+     * 정원이 남아있을 때만 user_count 를 1 증가시켜 자리를 확보한다.
+     * 읽고 비교하는 과정 없이 조건부 UPDATE 한 문장으로 처리하기 때문에 동시에 참여 요청이 몰려도 정원을 넘지 않는다.
+     * 호출한 트랜잭션이 커밋될 때까지 해당 챌린지 row 에 락이 유지되므로 트랜잭션의 마지막에 호출해야 한다.
+     */
+    public void reserveSeat(Long challengeId) {
+        if (challengeRepository.increaseUserCountIfNotFull(challengeId) == 0)
+            throw new RuntimeException("참여 인원이 가득 찼습니다.");
+    }
+}
@@ -15,6 +15,11 @@ import java.util.List;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_user_challenge_challenge_status", columnList = "challenge_id, status, max_progress"),
+        @Index(name = "idx_user_challenge_fail_sweep_id", columnList = "fail_sweep_id, challenge_id")
+},
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_challenge_user_challenge", columnNames = {"user_id", "challenge_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserChallenge {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,6 +41,10 @@ public class UserChallenge {
     private int progress;
     private UserChallengeStatus status;
 
+    // 이 참여자를 실패 처리한 회차 실패 처리 실행의 id. UserChallengeRepository.markFailOfCurrentRound 에서만 채운다.
+    @Column(name = "fail_sweep_id", length = 36)
+    private String failSweepId;
+
     @Builder
     public UserChallenge(Long id, Challenge challenge, User user, int maxProgress, int progress, UserChallengeStatus status) {
         this.id = id;
@@ -55,8 +64,4 @@ public class UserChallenge {
                 .status(UserChallengeStatus.IN_PROGRESS)
                 .build();
     }
-
-    public void fail() {
-        status = UserChallengeStatus.FAIL;
-    }
 }
@@ -0,0 +1,14 @@
+package com.challengers.userchallenge.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ChallengerDto {
+    private Long challengeId;
+    private Long userId;
+
+    public ChallengerDto(Long challengeId, Long userId) {
+        this.challengeId = challengeId;
+        this.userId = userId;
+    }
+}
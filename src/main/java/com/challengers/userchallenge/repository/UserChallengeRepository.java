@@ -4,10 +4,14 @@ import com.challengers.challenge.domain.ChallengeStatus;
 import com.challengers.challenge.domain.CheckFrequencyType;
 import com.challengers.userchallenge.domain.UserChallenge;
 import com.challengers.userchallenge.domain.UserChallengeStatus;
+import com.challengers.userchallenge.dto.ChallengerDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +21,43 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge,Lon
 
     List<UserChallenge> findByChallengeId(Long challengeId);
 
-    @Query("select uc from UserChallenge uc left join uc.photoChecks pc where uc.status=2 group by uc.id having count(pc.id) < uc.challenge.checkTimesPerRound")
-    List<UserChallenge> findAllFail();
+    @Query("select new com.challengers.userchallenge.dto.ChallengerDto(uc.challenge.id, uc.user.id) from UserChallenge uc where uc.challenge.id in :challengeIds")
+    List<ChallengerDto> findChallengersByChallengeIdIn(@Param("challengeIds") Collection<Long> challengeIds);
 
-    List<UserChallenge> findByChallengeIdAndStatus(Long challengeId, UserChallengeStatus status);
+    /**
+     * 이번 회차(challenge.round)에 인증 횟수를 채우지 못한 참여자를 실패로 바꾸고 fail_sweep_id 에 이번 실행의 id 를 남긴다.
+     */
+    @Modifying
+    @Query(value = "update user_challenge set status = 0, fail_sweep_id = :sweepId " +
+            "where status = 2 and exists (select 1 from challenge c where c.challenge_id = user_challenge.challenge_id " +
+            "and (c.status = 1 or (c.status = 2 and c.end_date = :today)) and c.check_frequency_type in (:checkFrequencyTypes) " +
+            "and (select count(*) from photo_check pc where pc.user_challenge_id = user_challenge.user_challenge_id and pc.round = c.round) " +
+            "< c.check_times_per_round)",
+            nativeQuery = true)
+    int markFailOfCurrentRound(@Param("today") LocalDate today,
+                               @Param("checkFrequencyTypes") Collection<Integer> checkFrequencyTypes,
+                               @Param("sweepId") String sweepId);
+
+    /**
+     * sweepId 실행에서 실패 처리된 참여자 수 * 예치금을 챌린지의 failed_point 에 더한다.
+     * markFailOfCurrentRound 와 같은 트랜잭션에서 그 뒤에 실행해서, 이번 실행이 실패로 바꾼 행만 센다.
+     */
+    @Modifying
+    @Query(value = "update challenge set failed_point = failed_point + deposit_point * (" +
+            "select count(*) from user_challenge uc where uc.challenge_id = challenge.challenge_id and uc.fail_sweep_id = :sweepId) " +
+            "where exists (select 1 from user_challenge uc where uc.challenge_id = challenge.challenge_id and uc.fail_sweep_id = :sweepId)",
+            nativeQuery = true)
+    int addFailedPointOfSweep(@Param("sweepId") String sweepId);
+
+    /**
+     * sweepId 실행에서 실패 처리된 참여자. 알림을 보내기 위해 챌린지 id 구간 단위로 나눠 조회한다.
+     */
+    @Query("select new com.challengers.userchallenge.dto.ChallengerDto(uc.challenge.id, uc.user.id) from UserChallenge uc " +
+            "where uc.failSweepId = :sweepId and uc.challenge.id between :startId and :endId")
+    List<ChallengerDto> findFailedBySweep(@Param("sweepId") String sweepId,
+                                          @Param("startId") Long startId,
+                                          @Param("endId") Long endId);
+
+    @Query("select coalesce(sum(uc.maxProgress), 0) from UserChallenge uc where uc.challenge.id = :challengeId and uc.status = :status")
+    long sumMaxProgressByChallengeIdAndStatus(@Param("challengeId") Long challengeId, @Param("status") UserChallengeStatus status);
 }
@@ -1,23 +1,45 @@
 package com.challengers.userchallenge.service;
 
-import com.challengers.userchallenge.domain.UserChallenge;
+import com.challengers.challenge.domain.CheckFrequencyType;
+import com.challengers.userchallenge.dto.ChallengerDto;
 import com.challengers.userchallenge.repository.UserChallengeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserChallengeService {
     private final UserChallengeRepository userChallengeRepository;
 
+    /**
+     * 이번 회차(challenge.round)에 인증 횟수를 채우지 못한 참여자를 실패 처리하고 예치금을 챌린지에 적립한다.
+     * 진행중인 챌린지와 오늘 종료된 챌린지 중 checkFrequencyTypes 에 해당하는 챌린지만 대상으로 한다.
+     * 실패 처리한 행에 sweepId 를 남기고 같은 트랜잭션에서 그 행만 세어 적립하므로, 같은 날 다시 실행해도 이미 적립한 실패는 다시 더하지 않는다.
+     * @param sweepId 이번 실행을 구분하는 id. 실행마다 새로 만든다.
+     * @return 실패 처리된 참여자 수
+     */
     @Transactional
-    public void failProcess() {
-        List<UserChallenge> fails = userChallengeRepository.findAllFail();
-        for (UserChallenge fail : fails) {
-            //실패시 프로세스
-        }
+    public int failProcess(LocalDate today, Collection<CheckFrequencyType> checkFrequencyTypes, String sweepId) {
+        List<Integer> types = checkFrequencyTypes.stream()
+                .map(CheckFrequencyType::ordinal)
+                .collect(Collectors.toList());
+
+        int failed = userChallengeRepository.markFailOfCurrentRound(today, types, sweepId);
+        if (failed > 0) userChallengeRepository.addFailedPointOfSweep(sweepId);
+        return failed;
+    }
+
+    /**
+     * sweepId 실행에서 실패 처리된 참여자 중 챌린지 id 가 startId ~ endId 인 참여자.
+     */
+    @Transactional(readOnly = true)
+    public List<ChallengerDto> findFailedBySweep(String sweepId, Long startId, Long endId) {
+        return userChallengeRepository.findFailedBySweep(sweepId, startId, endId);
     }
-}
\ No newline at end of file
+}
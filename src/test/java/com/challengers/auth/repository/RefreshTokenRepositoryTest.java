@@ -0,0 +1,52 @@
+package com.challengers.auth.repository;
+
+import com.challengers.auth.domain.RefreshToken;
+import com.challengers.security.TokenDigest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+@SpringBootTest
+@Transactional
+class RefreshTokenRepositoryTest {
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    EntityManager em;
+
+    @Test
+    void findByTokenHashes() {
+        refreshTokenRepository.save(RefreshToken.builder().userId(1L).accessToken("access").refreshToken("refresh").build());
+        em.flush();
+        em.clear();
+
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashes(
+                TokenDigest.sha256("access"), TokenDigest.sha256("refresh"));
+
+        Assertions.assertThat(found).isPresent();
+        Assertions.assertThat(found.get().getUserId()).isEqualTo(1L);
+        Assertions.assertThat(found.get().getRefreshTokenHash()).hasSize(TokenDigest.LENGTH);
+        Assertions.assertThat(refreshTokenRepository.findByTokenHashes(
+                TokenDigest.sha256("other"), TokenDigest.sha256("refresh"))).isEmpty();
+    }
+
+    @Test
+    void update() {
+        RefreshToken refreshToken = refreshTokenRepository.save(
+                RefreshToken.builder().userId(1L).accessToken("access").refreshToken("refresh").build());
+
+        refreshToken.update("newAccess", "newRefresh");
+        em.flush();
+        em.clear();
+
+        Assertions.assertThat(refreshTokenRepository.findByUserId(1L).get().getRefreshTokenHash())
+                .isEqualTo(TokenDigest.sha256("newRefresh"));
+        Assertions.assertThat(refreshTokenRepository.findByTokenHashes(
+                TokenDigest.sha256("access"), TokenDigest.sha256("refresh"))).isEmpty();
+    }
+}
@@ -5,6 +5,7 @@ import com.challengers.challenge.domain.CheckFrequencyType;
 import com.challengers.challenge.dto.ChallengeDetailResponse;
 import com.challengers.challenge.dto.ChallengeRequest;
 import com.challengers.challenge.dto.ChallengeResponse;
+import com.challengers.challenge.dto.ChallengeSliceResponse;
 import com.challengers.challenge.dto.ChallengeUpdateRequest;
 import com.challengers.challenge.service.ChallengeService;
 import com.challengers.common.WithMockCustomUser;
@@ -31,6 +32,7 @@ import java.util.Arrays;
 
 import static com.challengers.testtool.UploadSupporter.uploadMockSupport;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -170,10 +172,12 @@ class ChallengeControllerTest extends DocumentationWithSecurity {
     @WithMockCustomUser
     @DisplayName("참여 가능한 챌린지 조회")
     void findCanJoinChallenges() throws Exception{
-        PageImpl<ChallengeResponse> page = new PageImpl<>(Arrays.asList(new ChallengeResponse(1L, "매일 아침 7시에 일어나기!", "LIFE",
+        PageImpl<ChallengeResponse> page = new PageImpl<>(Arrays.asList(new ChallengeResponse(1L, "매일 아침 7시에 일어나기!",
+                        "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/thumb_1747f32c.jpg", "LIFE",
                         new ArrayList<>(Arrays.asList("미라클 모닝", "기상")), "2022.07.02", 10, false,
                         new ArrayList<>(Arrays.asList(1L, 2L, 3L))),
-                new ChallengeResponse(2L, "하루 물 2L 마시기", "LIFE",
+                new ChallengeResponse(2L, "하루 물 2L 마시기",
+                        "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/thumb_5e2bce0a.jpg", "LIFE",
                         new ArrayList<>(Arrays.asList("수분 섭취", "건강")), "2022.07.03", 14, true,
                         new ArrayList<>(Arrays.asList(1L, 2L)))),PageRequest.of(0,6, Sort.by("created_date")),2);
 
@@ -184,4 +188,26 @@ class ChallengeControllerTest extends DocumentationWithSecurity {
                 .andDo(ChallengeDocumentation.findCanJoinChallenges());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("참여 가능한 챌린지 커서 기반 조회")
+    void findCanJoinChallengesByCursor() throws Exception{
+        ChallengeSliceResponse response = new ChallengeSliceResponse(Arrays.asList(
+                new ChallengeResponse(2L, "하루 물 2L 마시기",
+                        "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/thumb_5e2bce0a.jpg", "LIFE",
+                        new ArrayList<>(Arrays.asList("수분 섭취", "건강")), "2022.07.03", 14, true,
+                        new ArrayList<>(Arrays.asList(1L, 2L))),
+                new ChallengeResponse(1L, "매일 아침 7시에 일어나기!",
+                        "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/thumb_1747f32c.jpg", "LIFE",
+                        new ArrayList<>(Arrays.asList("미라클 모닝", "기상")), "2022.07.02", 10, false,
+                        new ArrayList<>(Arrays.asList(1L, 2L, 3L)))),
+                "MDox", true);
+
+        when(challengeService.findReadyOrInProgressChallengesByCursor(any(), anyInt(), any())).thenReturn(response);
+        mockMvc.perform(get("/api/challenge/cursor")
+                .header("Authorization", StringToken.getToken())
+                .param("cursor", "MDoz")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andDo(ChallengeDocumentation.findCanJoinChallengesByCursor());
+    }
+}
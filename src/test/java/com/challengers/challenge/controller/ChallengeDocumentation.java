@@ -157,6 +157,7 @@ public class ChallengeDocumentation {
                 fieldWithPath("content").type(JsonFieldType.ARRAY).description("조회한 챌린지들"),
                 fieldWithPath("content.[].challengeId").type(JsonFieldType.NUMBER).description("챌린지 ID"),
                 fieldWithPath("content.[].name").type(JsonFieldType.STRING).description("챌린지 이름"),
+                fieldWithPath("content.[].thumbnailUrl").type(JsonFieldType.STRING).description("챌린지 대표 이미지 썸네일 URL. 썸네일이 아직 없으면 원본 이미지 URL"),
                 fieldWithPath("content.[].category").type(JsonFieldType.STRING).description("챌린지 카테고리"),
                 fieldWithPath("content.[].tags").type(JsonFieldType.ARRAY).description("챌린지 태그 Array"),
                 fieldWithPath("content.[].createdDate").type(JsonFieldType.STRING).description("챌린지 생성일"),
@@ -197,4 +198,38 @@ public class ChallengeDocumentation {
                 responseFields(response)
         );
     }
+
+    public static RestDocumentationResultHandler findCanJoinChallengesByCursor() {
+        HeaderDescriptor[] requestHeaders = new HeaderDescriptor[]{
+                headerWithName("Authorization").description("JWT 토큰. Required=false").optional()
+        };
+
+        ParameterDescriptor[] requestParams = new ParameterDescriptor[]{
+                parameterWithName("cursor").description("이전 응답의 nextCursor. 첫 페이지 조회 시 생략합니다. Required=false").optional(),
+                parameterWithName("size").description("조회할 챌린지 수. 1 ~ 50, Required=false, Default=6").optional()
+        };
+
+        FieldDescriptor[] response= new FieldDescriptor[]{
+                fieldWithPath("content").type(JsonFieldType.ARRAY).description("조회한 챌린지들"),
+                fieldWithPath("content.[].challengeId").type(JsonFieldType.NUMBER).description("챌린지 ID"),
+                fieldWithPath("content.[].name").type(JsonFieldType.STRING).description("챌린지 이름"),
+                fieldWithPath("content.[].thumbnailUrl").type(JsonFieldType.STRING).description("챌린지 대표 이미지 썸네일 URL. 썸네일이 아직 없으면 원본 이미지 URL"),
+                fieldWithPath("content.[].category").type(JsonFieldType.STRING).description("챌린지 카테고리"),
+                fieldWithPath("content.[].tags").type(JsonFieldType.ARRAY).description("챌린지 태그 Array"),
+                fieldWithPath("content.[].createdDate").type(JsonFieldType.STRING).description("챌린지 생성일"),
+                fieldWithPath("content.[].remainingDays").type(JsonFieldType.NUMBER).description("챌린지 종료까지 남은 일 수"),
+                fieldWithPath("content.[].cart").type(JsonFieldType.BOOLEAN).description("챌린지 찜 여부"),
+                fieldWithPath("content.[].challengersIds").type(JsonFieldType.ARRAY).description("챌린지 참여자들의 ID"),
+                fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서. 마지막 페이지면 null").optional(),
+                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+        };
+
+        return document("challenge/findCanJoinChallengesByCursor",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestHeaders(requestHeaders),
+                requestParameters(requestParams),
+                responseFields(response)
+        );
+    }
 }
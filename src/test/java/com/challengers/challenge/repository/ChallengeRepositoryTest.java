@@ -0,0 +1,42 @@
+package com.challengers.challenge.repository;
+
+import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.domain.ChallengeStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class ChallengeRepositoryTest {
+    @Autowired
+    ChallengeRepository challengeRepository;
+
+    @Test
+    void findReadyOrInProgressChallengesAfter() {
+        Challenge ready = challengeRepository.save(Challenge.builder().status(ChallengeStatus.READY).build());
+        Challenge inProgress = challengeRepository.save(Challenge.builder().status(ChallengeStatus.IN_PROGRESS).build());
+        challengeRepository.save(Challenge.builder().status(ChallengeStatus.VALIDATE).build());
+        challengeRepository.save(Challenge.builder().status(ChallengeStatus.FINISH).build());
+
+        List<Challenge> challenges = challengeRepository.findReadyOrInProgressChallengesAfter(
+                ChallengeStatus.READY.ordinal(), Long.MAX_VALUE, 10);
+
+        Assertions.assertThat(challenges).extracting(Challenge::getId).containsExactly(ready.getId(), inProgress.getId());
+    }
+
+    @Test
+    void findReadyOrInProgressChallengesAfter_notJoinableStatus() {
+        challengeRepository.save(Challenge.builder().status(ChallengeStatus.VALIDATE).build());
+        challengeRepository.save(Challenge.builder().status(ChallengeStatus.FINISH).build());
+
+        Assertions.assertThat(challengeRepository.findReadyOrInProgressChallengesAfter(
+                ChallengeStatus.VALIDATE.ordinal(), Long.MAX_VALUE, 10)).isEmpty();
+        Assertions.assertThat(challengeRepository.findReadyOrInProgressChallengesAfter(
+                ChallengeStatus.FINISH.ordinal(), Long.MAX_VALUE, 10)).isEmpty();
+    }
+}
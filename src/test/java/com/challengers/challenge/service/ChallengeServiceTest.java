@@ -5,11 +5,18 @@ import com.challengers.challenge.domain.Category;
 import com.challengers.challenge.domain.Challenge;
 import com.challengers.challenge.domain.ChallengeStatus;
 import com.challengers.challenge.domain.CheckFrequencyType;
+import com.challengers.challenge.dto.ChallengeCursor;
 import com.challengers.challenge.dto.ChallengeRequest;
+import com.challengers.challenge.dto.ChallengeResponse;
+import com.challengers.challenge.dto.ChallengeSliceResponse;
 import com.challengers.challenge.dto.ChallengeUpdateRequest;
 import com.challengers.challenge.repository.ChallengeRepository;
 import com.challengers.common.AwsS3Uploader;
+import com.challengers.common.ImageThumbnailGenerator;
+import com.challengers.common.exception.BadRequestException;
 import com.challengers.examplephoto.repository.ExamplePhotoRepository;
+import com.challengers.notification.dto.NotificationEvent;
+import com.challengers.notification.service.NotificationService;
 import com.challengers.tag.domain.Tag;
 import com.challengers.tag.repository.TagRepository;
 import com.challengers.user.domain.AuthProvider;
@@ -17,25 +24,38 @@ import com.challengers.user.domain.Role;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.AchievementRepository;
 import com.challengers.user.repository.UserRepository;
+import com.challengers.userchallenge.ChallengeJoinAdmission;
 import com.challengers.userchallenge.domain.UserChallenge;
+import com.challengers.userchallenge.dto.ChallengerDto;
 import com.challengers.userchallenge.repository.UserChallengeRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +69,9 @@ public class ChallengeServiceTest {
     @Mock AchievementRepository achievementRepository;
     @Mock AwsS3Uploader awsS3Uploader;
     @Mock CartRepository cartRepository;
+    @Mock ChallengeJoinAdmission challengeJoinAdmission;
+    @Mock ImageThumbnailGenerator imageThumbnailGenerator;
+    @Mock NotificationService notificationService;
 
     ChallengeService challengeService;
 
@@ -59,7 +82,8 @@ public class ChallengeServiceTest {
     @BeforeEach
     void setUp() {
         challengeService = new ChallengeService(challengeRepository,achievementRepository,tagRepository,
-                userRepository,examplePhotoRepository,userChallengeRepository,awsS3Uploader,cartRepository);
+                userRepository,examplePhotoRepository,userChallengeRepository,awsS3Uploader,cartRepository,
+                challengeJoinAdmission, new TransactionTemplate(mock(PlatformTransactionManager.class)), imageThumbnailGenerator, notificationService);
 
         user = User.builder()
                 .id(0L)
@@ -114,9 +138,9 @@ public class ChallengeServiceTest {
     @DisplayName("챌린지 개설 성공")
     void create() {
         //given
+        when(userRepository.existsById(any())).thenReturn(true);
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(awsS3Uploader.uploadImage(any()))
-                .thenReturn("https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/1747f32c-e5083c5e2bce0.PNG");
+        when(awsS3Uploader.uploadImages(any())).thenReturn(uploadedUrls());
         when(tagRepository.findTagByName(any())).thenReturn(Optional.of(new Tag("임시 태그")));
 
         //when
@@ -124,6 +148,35 @@ public class ChallengeServiceTest {
 
         //then
         verify(challengeRepository).save(any());
+        verify(awsS3Uploader, never()).deleteUploadedImages(any());
+    }
+
+    @Test
+    @DisplayName("챌린지 개설 실패 - DB 반영에 실패하면 업로드한 이미지를 삭제")
+    void create_failed_deletes_uploaded_images() {
+        when(userRepository.existsById(any())).thenReturn(true);
+        when(awsS3Uploader.uploadImages(any())).thenReturn(uploadedUrls());
+        when(userRepository.findById(any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> challengeService.create(challengeRequest, user.getId()))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(awsS3Uploader).deleteUploadedImages(uploadedUrls());
+    }
+
+    @Test
+    @DisplayName("챌린지 개설 실패 - 없는 사용자면 이미지를 업로드하지 않음")
+    void create_failed_host_not_found() {
+        when(userRepository.existsById(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> challengeService.create(challengeRequest, user.getId()))
+                .isInstanceOf(NoSuchElementException.class);
+        verify(awsS3Uploader, never()).uploadImages(any());
+    }
+
+    private List<String> uploadedUrls() {
+        return Arrays.asList("https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/1747f32c-e5083c5e2bce0.PNG",
+                "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/example1.PNG",
+                "https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/example2.PNG");
     }
 
     @Test
@@ -185,6 +238,24 @@ public class ChallengeServiceTest {
         verify(challengeRepository).delete(any());
     }
 
+    @Test
+    @DisplayName("챌린지 삭제 성공 - 찜한 사용자의 찜을 지우고 알림 발행")
+    void delete_notify_cart_users() {
+        when(challengeRepository.findById(any())).thenReturn(Optional.of(challenge));
+        when(userChallengeRepository.countByChallengeId(any())).thenReturn(1L);
+        when(userChallengeRepository.findByUserIdAndChallengeId(any(),any()))
+                .thenReturn(Optional.of(UserChallenge.create(challenge,user)));
+        when(cartRepository.findUserIdsByChallengeId(challenge.getId())).thenReturn(Arrays.asList(2L, 3L));
+
+        challengeService.delete(challenge.getId(),user.getId());
+
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(cartRepository).deleteAllByChallengeId(challenge.getId());
+        verify(notificationService).publish(captor.capture());
+        assertThat(captor.getValue().getRecipientIds()).containsExactly(2L, 3L);
+        verify(challengeRepository).delete(any());
+    }
+
 
     @Test
     @DisplayName("챌린지 삭제 실패 - 참가자가 2명 이상일 경우")
@@ -205,6 +276,18 @@ public class ChallengeServiceTest {
         challengeService.join(1L,1L);
 
         verify(userChallengeRepository).save(any());
+        verify(challengeJoinAdmission).reserveSeat(1L);
+    }
+
+    @Test
+    @DisplayName("챌린지 참여 실패 - 동시 참여로 자리 확보에 실패한 경우")
+    void join_failed_when_seat_is_taken_concurrently() {
+        when(challengeRepository.findById(any())).thenReturn(Optional.of(challenge));
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
+        doThrow(new RuntimeException("참여 인원이 가득 찼습니다."))
+                .when(challengeJoinAdmission).reserveSeat(any());
+
+        assertThatThrownBy(()->challengeService.join(1L,1L)).isInstanceOf(RuntimeException.class);
     }
 
     @Test
@@ -230,4 +313,69 @@ public class ChallengeServiceTest {
 
         assertThatThrownBy(()->challengeService.join(1L,1L)).isInstanceOf(RuntimeException.class);
     }
+
+    @Test
+    @DisplayName("참여 가능한 챌린지 조회 - 찜 여부와 참여자 ID를 한번에 조회")
+    void findReadyOrInProgressChallenges() {
+        PageRequest pageable = PageRequest.of(0, 6);
+        when(challengeRepository.findReadyOrInProgressChallenges(any()))
+                .thenReturn(new PageImpl<>(Arrays.asList(challenge), pageable, 1));
+        when(cartRepository.findChallengeIdsByUserIdAndChallengeIdIn(any(), any()))
+                .thenReturn(Arrays.asList(challenge.getId()));
+        when(userChallengeRepository.findChallengersByChallengeIdIn(any()))
+                .thenReturn(Arrays.asList(new ChallengerDto(challenge.getId(), 0L), new ChallengerDto(challenge.getId(), 2L)));
+
+        Page<ChallengeResponse> responses = challengeService.findReadyOrInProgressChallenges(pageable, user.getId());
+
+        assertThat(responses.getContent().get(0).isCart()).isTrue();
+        assertThat(responses.getContent().get(0).getChallengersIds()).containsExactly(0L, 2L);
+        verify(cartRepository, never()).findByChallengeIdAndUserId(any(), any());
+        verify(userChallengeRepository, never()).findByChallengeId(any());
+    }
+
+    @Test
+    @DisplayName("참여 가능한 챌린지 커서 조회 - 다음 페이지가 있으면 마지막 챌린지 기준 커서를 반환")
+    void findReadyOrInProgressChallengesByCursor() {
+        Challenge first = listedChallenge(10L, ChallengeStatus.READY);
+        Challenge second = listedChallenge(7L, ChallengeStatus.READY);
+        Challenge third = listedChallenge(12L, ChallengeStatus.IN_PROGRESS);
+        when(challengeRepository.findReadyOrInProgressChallengesAfter(0, Long.MAX_VALUE, 3))
+                .thenReturn(new ArrayList<>(Arrays.asList(first, second, third)));
+        when(userChallengeRepository.findChallengersByChallengeIdIn(any())).thenReturn(new ArrayList<>());
+
+        ChallengeSliceResponse response = challengeService.findReadyOrInProgressChallengesByCursor(null, 2, null);
+
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getContent()).extracting(ChallengeResponse::getChallengeId).containsExactly(10L, 7L);
+        ChallengeCursor nextCursor = ChallengeCursor.decode(response.getNextCursor());
+        assertThat(nextCursor.getStatus()).isEqualTo(ChallengeStatus.READY.ordinal());
+        assertThat(nextCursor.getChallengeId()).isEqualTo(7L);
+        verify(cartRepository, never()).findChallengeIdsByUserIdAndChallengeIdIn(any(), any());
+    }
+
+    private Challenge listedChallenge(Long id, ChallengeStatus status) {
+        return Challenge.builder()
+                .id(id)
+                .host(user)
+                .category(Category.LIFE)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("참여 가능한 챌린지 커서 조회 실패 - 잘못된 커서")
+    void findReadyOrInProgressChallengesByCursor_invalidCursor() {
+        assertThatThrownBy(() -> challengeService.findReadyOrInProgressChallengesByCursor("잘못된커서", 6, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("참여 가능한 챌린지 커서 조회 실패 - 참여 가능한 상태가 아닌 커서")
+    void findReadyOrInProgressChallengesByCursor_notJoinableStatus() {
+        String cursor = new ChallengeCursor(ChallengeStatus.VALIDATE.ordinal(), Long.MAX_VALUE).encode();
+
+        assertThatThrownBy(() -> challengeService.findReadyOrInProgressChallengesByCursor(cursor, 6, null))
+                .isInstanceOf(BadRequestException.class);
+    }
 }
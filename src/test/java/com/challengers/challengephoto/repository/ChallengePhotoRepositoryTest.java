@@ -0,0 +1,91 @@
+package com.challengers.challengephoto.repository;
+
+import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.repository.ChallengeRepository;
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.feed.domain.Comment;
+import com.challengers.feed.domain.Like;
+import com.challengers.feed.repository.CommentRepository;
+import com.challengers.feed.repository.LikeRepository;
+import com.challengers.user.domain.AuthProvider;
+import com.challengers.user.domain.Role;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class ChallengePhotoRepositoryTest {
+    @Autowired
+    ChallengePhotoRepository challengePhotoRepository;
+    @Autowired
+    ChallengeRepository challengeRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    EntityManager em;
+
+    ChallengePhoto challengePhoto;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .role(Role.USER)
+                .email("kjs@asf.com")
+                .name("asd")
+                .providerId("asf")
+                .provider(AuthProvider.local)
+                .password("asd")
+                .build());
+        Challenge challenge = challengeRepository.save(Challenge.builder().host(user).build());
+        challengePhoto = challengePhotoRepository.save(ChallengePhoto.create(challenge, user, "https://photo.png"));
+    }
+
+    @Test
+    void increaseAndDecreaseCommentCount() {
+        challengePhotoRepository.increaseCommentCount(challengePhoto.getId());
+        challengePhotoRepository.increaseCommentCount(challengePhoto.getId());
+        challengePhotoRepository.decreaseCommentCount(challengePhoto.getId());
+        em.clear();
+
+        ChallengePhoto found = challengePhotoRepository.findById(challengePhoto.getId()).get();
+        Assertions.assertThat(found.getCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void countDoesNotGoBelowZero() {
+        int updated = challengePhotoRepository.decreaseCommentCount(challengePhoto.getId());
+        em.clear();
+
+        Assertions.assertThat(updated).isEqualTo(0);
+        Assertions.assertThat(challengePhotoRepository.findById(challengePhoto.getId()).get().getCommentCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void reconcileCounts() {
+        likeRepository.save(Like.builder().userId(1L).challengePhotoId(challengePhoto.getId()).build());
+        likeRepository.save(Like.builder().userId(2L).challengePhotoId(challengePhoto.getId()).build());
+        commentRepository.save(Comment.builder().userId(1L).challengePhotoId(challengePhoto.getId()).content("댓글").build());
+        em.flush();
+
+        int repaired = challengePhotoRepository.reconcileCounts(challengePhoto.getId(), challengePhoto.getId());
+        em.clear();
+
+        ChallengePhoto found = challengePhotoRepository.findById(challengePhoto.getId()).get();
+        Assertions.assertThat(repaired).isEqualTo(1);
+        Assertions.assertThat(found.getLikeCount()).isEqualTo(2L);
+        Assertions.assertThat(found.getCommentCount()).isEqualTo(1L);
+        Assertions.assertThat(challengePhotoRepository.reconcileCounts(challengePhoto.getId(), challengePhoto.getId())).isEqualTo(0);
+    }
+}
@@ -5,6 +5,8 @@ import com.challengers.challenge.repository.ChallengeRepository;
 import com.challengers.challengephoto.dto.ChallengePhotoRequest;
 import com.challengers.challengephoto.repository.ChallengePhotoRepository;
 import com.challengers.common.AwsS3Uploader;
+import com.challengers.common.ImageThumbnailGenerator;
+import com.challengers.feed.service.FeedTimelineService;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +30,8 @@ class ChallengePhotoServiceTest {
     @Mock private ChallengeRepository challengeRepository;
     @Mock private UserRepository userRepository;
     @Mock private AwsS3Uploader awsS3Uploader;
+    @Mock private ImageThumbnailGenerator imageThumbnailGenerator;
+    @Mock private FeedTimelineService feedTimelineService;
 
     private ChallengePhotoService challengePhotoService;
     private Challenge challenge;
@@ -40,7 +44,9 @@ class ChallengePhotoServiceTest {
                 challengePhotoRepository,
                 challengeRepository,
                 userRepository,
-                awsS3Uploader);
+                awsS3Uploader,
+                imageThumbnailGenerator,
+                feedTimelineService);
 
         challenge = Challenge.builder().build();
 
@@ -57,9 +63,13 @@ class ChallengePhotoServiceTest {
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
         when(awsS3Uploader.uploadImage(any())).thenReturn("https://tempPhotoUrl.png");
 
+        when(challengePhotoRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
         challengePhotoService.upload(challengePhotoRequest,1L,1L);
 
         verify(challengePhotoRepository).save(any());
+        verify(imageThumbnailGenerator).generateAfterCommit(any(), any());
+        verify(feedTimelineService).fanOutAfterCommit(any(), any());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.challengers.common;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AwsS3UploaderTest {
+    private static final String BUCKET = "challengers-bucket";
+
+    @Mock AmazonS3 amazonS3;
+    @Mock S3MultipartUploader s3MultipartUploader;
+
+    ExecutorService executor;
+    AwsS3Uploader awsS3Uploader;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        awsS3Uploader = new AwsS3Uploader(amazonS3, executor, s3MultipartUploader, DataSize.ofBytes(10));
+        ReflectionTestUtils.setField(awsS3Uploader, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 파일을 병렬로 업로드하고 요청한 순서대로 URL 을 반환")
+    void uploadImages() {
+        when(amazonS3.getUrl(eq(BUCKET), anyString())).thenAnswer(invocation -> url(invocation.getArgument(1)));
+
+        List<String> urls = awsS3Uploader.uploadImages(Arrays.asList(image("1.png"), image("2.jpg"), image("3.gif")));
+
+        assertThat(urls).hasSize(3);
+        assertThat(urls.get(0)).endsWith(".png");
+        assertThat(urls.get(1)).endsWith(".jpg");
+        assertThat(urls.get(2)).endsWith(".gif");
+        verify(amazonS3, times(3)).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드 중 하나라도 실패하면 이미 올라간 파일을 삭제하고 예외를 던짐")
+    void uploadImages_fail() {
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            if (request.getKey().endsWith(".jpg")) throw new IllegalStateException("S3 장애");
+            return null;
+        });
+        when(amazonS3.getUrl(eq(BUCKET), anyString())).thenAnswer(invocation -> url(invocation.getArgument(1)));
+
+        assertThatThrownBy(() -> awsS3Uploader.uploadImages(Arrays.asList(image("1.png"), image("2.jpg"), image("3.gif"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<DeleteObjectRequest> deleted = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(amazonS3, times(2)).deleteObject(deleted.capture());
+        assertThat(deleted.getAllValues()).allMatch(request -> !request.getKey().endsWith(".jpg"));
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 파일은 멀티파트 업로드로 전환")
+    void uploadImage_multipart() {
+        when(amazonS3.getUrl(eq(BUCKET), anyString())).thenAnswer(invocation -> url(invocation.getArgument(1)));
+        MultipartFile largeImage = new MockMultipartFile("image", "large.png", "image/png", new byte[10]);
+
+        awsS3Uploader.uploadImage(largeImage);
+
+        verify(s3MultipartUploader).upload(eq(BUCKET), anyString(), eq(largeImage));
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    private MultipartFile image(String fileName) {
+        return new MockMultipartFile("image", fileName, "image/png", "image".getBytes());
+    }
+
+    private URL url(String key) throws MalformedURLException {
+        return new URL("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/" + key);
+    }
+}
@@ -0,0 +1,101 @@
+package com.challengers.common;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageThumbnailGeneratorTest {
+    private static final String BUCKET = "challengers-bucket";
+    private static final String ORIGINAL_URL = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/original.png";
+
+    @Mock AmazonS3 amazonS3;
+    @Mock AwsS3Uploader awsS3Uploader;
+
+    ImageThumbnailGenerator imageThumbnailGenerator;
+
+    @BeforeEach
+    void setUp() {
+        imageThumbnailGenerator = new ImageThumbnailGenerator(amazonS3, awsS3Uploader, Runnable::run, 480, 0.8f);
+        ReflectionTestUtils.setField(imageThumbnailGenerator, "bucket", BUCKET);
+    }
+
+    @Test
+    @DisplayName("가로 길이에 맞춰 비율을 유지하며 축소")
+    void resize() {
+        BufferedImage resized = ImageThumbnailGenerator.resize(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_ARGB), 480);
+
+        assertThat(resized.getWidth()).isEqualTo(480);
+        assertThat(resized.getHeight()).isEqualTo(360);
+    }
+
+    @Test
+    @DisplayName("기준보다 작은 이미지는 확대하지 않음")
+    void resize_small_image() {
+        BufferedImage resized = ImageThumbnailGenerator.resize(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), 480);
+
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("원본으로 JPEG 썸네일을 만들어 업로드한 뒤 URL 을 전달")
+    void generate() throws IOException {
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream(png(1200, 800)));
+        when(amazonS3.getObject(BUCKET, "original.png")).thenReturn(original);
+        when(awsS3Uploader.extractStoreFileName(ORIGINAL_URL)).thenReturn("original.png");
+        URL thumbnailUrl = new URL("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/thumb_original.jpg");
+        when(amazonS3.getUrl(BUCKET, "thumb_original.jpg")).thenReturn(thumbnailUrl);
+
+        AtomicReference<String> created = new AtomicReference<>();
+        imageThumbnailGenerator.generateAfterCommit(ORIGINAL_URL, created::set);
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertThat(captor.getValue().getKey()).isEqualTo("thumb_original.jpg");
+        assertThat(captor.getValue().getMetadata().getContentType()).isEqualTo("image/jpeg");
+        assertThat(created.get()).isEqualTo(thumbnailUrl.toString());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 썸네일을 만들지 않음")
+    void generate_not_image() {
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream("not image".getBytes()));
+        when(amazonS3.getObject(BUCKET, "original.png")).thenReturn(original);
+        when(awsS3Uploader.extractStoreFileName(ORIGINAL_URL)).thenReturn("original.png");
+
+        AtomicReference<String> created = new AtomicReference<>();
+        imageThumbnailGenerator.generateAfterCommit(ORIGINAL_URL, created::set);
+
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        assertThat(created.get()).isNull();
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
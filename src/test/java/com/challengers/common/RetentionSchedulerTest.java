@@ -0,0 +1,76 @@
+package com.challengers.common;
+
+import com.challengers.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RetentionSchedulerTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    SimpleMeterRegistry meterRegistry;
+    RetentionScheduler retentionScheduler;
+    LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setRefreshTokenExpirationMsec(86400000L);
+        meterRegistry = new SimpleMeterRegistry();
+        retentionScheduler = new RetentionScheduler(jdbcTemplate, appProperties, meterRegistry, 30, 2, 0);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 유효 시간이 지난 행만 chunk 단위로 삭제")
+    void purgeExpiredRefreshTokens() {
+        for (long userId = 1; userId <= 3; userId++) refreshToken(userId, now.minusDays(2));
+        refreshToken(4L, now.minusHours(1));
+
+        long purged = retentionScheduler.purgeExpiredRefreshTokens(now);
+
+        assertThat(purged).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForList("select user_id from refresh_token where user_id <= 4", Long.class)).containsExactly(4L);
+        assertThat(meterRegistry.get("retention.purged").tag("table", "refresh_token").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("retention.run").tag("table", "refresh_token").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 읽은 알림만 삭제하고 읽지 않은 알림은 남김")
+    void purgeReadNotifications() {
+        notification("READ", now.minusDays(31));
+        notification("READ", now.minusDays(31));
+        notification("NOT_READ", now.minusDays(31));
+        notification("READ", now.minusDays(1));
+
+        long purged = retentionScheduler.purgeReadNotifications(now);
+
+        assertThat(purged).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from notification where recipient_id = 1 and created_date < ?", Long.class,
+                Timestamp.valueOf(now.minusDays(30)))).isEqualTo(1L);
+    }
+
+    private void refreshToken(Long userId, LocalDateTime updatedDate) {
+        jdbcTemplate.update("insert into refresh_token (user_id, access_token_hash, refresh_token_hash, created_date, updated_date) " +
+                        "values (?, ?, ?, ?, ?)", userId, "a" + userId, "r" + userId,
+                Timestamp.valueOf(updatedDate), Timestamp.valueOf(updatedDate));
+    }
+
+    private void notification(String status, LocalDateTime createdDate) {
+        jdbcTemplate.update("insert into notification (recipient_id, type, message, status, created_date, updated_date) " +
+                        "values (1, 'CHALLENGE', '알림', ?, ?, ?)", status,
+                Timestamp.valueOf(createdDate), Timestamp.valueOf(createdDate));
+    }
+}
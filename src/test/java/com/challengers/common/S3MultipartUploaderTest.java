@@ -0,0 +1,113 @@
+package com.challengers.common;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+    private static final String BUCKET = "challengers-bucket";
+    private static final String KEY = "large.png";
+
+    @Mock AmazonS3 amazonS3;
+
+    ExecutorService executor;
+    S3MultipartUploader s3MultipartUploader;
+    MockMultipartFile largeImage;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        s3MultipartUploader = new S3MultipartUploader(amazonS3, executor, DataSize.ofMegabytes(5), 2);
+        largeImage = new MockMultipartFile("image", KEY, "image/png", new byte[(int) DataSize.ofMegabytes(12).toBytes()]);
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-id");
+        when(amazonS3.initiateMultipartUpload(any())).thenReturn(initiated);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("고정 크기 파트로 나눠 업로드한 뒤 파트 순서대로 완료 요청")
+    void upload() {
+        when(amazonS3.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        s3MultipartUploader.upload(BUCKET, KEY, largeImage);
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(3)).uploadPart(parts.capture());
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::getPartSize)
+                .containsExactlyInAnyOrder(DataSize.ofMegabytes(5).toBytes(), DataSize.ofMegabytes(5).toBytes(),
+                        DataSize.ofMegabytes(2).toBytes());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completed = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(completed.capture());
+        assertThat(completed.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2, 3);
+        verify(amazonS3, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("파트 업로드에 실패하면 멀티파트 업로드를 중단")
+    void upload_fail() {
+        when(amazonS3.uploadPart(any())).thenThrow(new IllegalStateException("S3 장애"));
+
+        assertThatThrownBy(() -> s3MultipartUploader.upload(BUCKET, KEY, largeImage))
+                .isInstanceOf(ResponseStatusException.class);
+
+        verify(amazonS3).abortMultipartUpload(any());
+        verify(amazonS3, never()).completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("파트 업로드에 실패하면 전송 중인 다른 파트가 끝난 뒤에 중단")
+    void upload_fail_abort_after_in_flight_parts() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        when(amazonS3.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.getPartNumber() == 1) throw new IllegalStateException("S3 장애");
+            Thread.sleep(200);
+            events.add("part-" + request.getPartNumber());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        doAnswer(invocation -> events.add("abort")).when(amazonS3).abortMultipartUpload(any());
+
+        assertThatThrownBy(() -> s3MultipartUploader.upload(BUCKET, KEY, largeImage))
+                .isInstanceOf(ResponseStatusException.class);
+
+        assertThat(events).contains("part-2").last().isEqualTo("abort");
+    }
+}
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 
 import static com.challengers.user.domain.User.DEFAULT_IMAGE_URL;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -65,7 +66,9 @@ public class CommentControllerTest extends DocumentationWithSecurity {
 
         commentResponse = CommentResponse.builder()
                 .comments(comments)
-                .commentCnt(2L)
+                .commentCnt(5L)
+                .nextCursor(2L)
+                .hasNext(true)
                 .build();
 
         commentRequest = CommentRequest.builder()
@@ -77,9 +80,11 @@ public class CommentControllerTest extends DocumentationWithSecurity {
     @WithMockCustomUser
     @Test
     public void getComment() throws Exception {
-        when(commentService.getComment(any())).thenReturn(commentResponse);
+        when(commentService.getComment(any(), any(), anyInt())).thenReturn(commentResponse);
 
         mockMvc.perform(RestDocumentationRequestBuilders.get("/api/feed/comment/{challengePhotoId}",1)
+                        .param("cursor", "3")
+                        .param("size", "2")
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -3,12 +3,14 @@ package com.challengers.feed;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.request.ParameterDescriptor;
 
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 
 public class CommentDocumentation {
     public static RestDocumentationResultHandler getComment() {
@@ -18,13 +20,20 @@ public class CommentDocumentation {
                 fieldWithPath("comments[].auth.name").type(JsonFieldType.STRING).description("유저 이름"),
                 fieldWithPath("comments[].auth.image").type(JsonFieldType.STRING).description("유저 이미지"),
                 fieldWithPath("comments[].content").type(JsonFieldType.STRING).description("댓글 내용"),
-                fieldWithPath("commentCnt").type(JsonFieldType.NUMBER).description("댓글 수"),
+                fieldWithPath("commentCnt").type(JsonFieldType.NUMBER).description("전체 댓글 수"),
+                fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 페이지 조회에 사용할 커서. 마지막 페이지면 null").optional(),
+                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+        };
+        ParameterDescriptor[] requestParams = new ParameterDescriptor[]{
+                parameterWithName("cursor").description("이전 응답의 nextCursor. 첫 페이지 조회 시 생략합니다. Required=false").optional(),
+                parameterWithName("size").description("조회할 댓글 수. 1 ~ 100, Required=false, Default=20").optional()
         };
         return document("feed/comment/getComment",
                 preprocessRequest(prettyPrint()),
                 preprocessResponse(prettyPrint()),
                 responseFields(responseComment),
-                pathParameters(parameterWithName("challengePhotoId").description("조회할 사진 id"))
+                pathParameters(parameterWithName("challengePhotoId").description("조회할 사진 id")),
+                requestParameters(requestParams)
         );
     }
 
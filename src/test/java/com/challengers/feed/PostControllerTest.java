@@ -0,0 +1,63 @@
+package com.challengers.feed;
+
+import com.challengers.common.WithMockCustomUser;
+import com.challengers.common.documentation.DocumentationWithSecurity;
+import com.challengers.feed.controller.PostController;
+import com.challengers.feed.dto.ChallengePhotoUserDto;
+import com.challengers.feed.dto.PostResponse;
+import com.challengers.feed.dto.PostSliceResponse;
+import com.challengers.feed.service.PostService;
+import com.challengers.testtool.StringToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = PostController.class)
+public class PostControllerTest extends DocumentationWithSecurity {
+
+    @MockBean
+    PostService postService;
+
+    @DisplayName("팔로잉 피드 커서 기반 조회")
+    @WithMockCustomUser
+    @Test
+    public void getFollowingPostsByCursor() throws Exception {
+        ChallengePhotoUserDto auth = ChallengePhotoUserDto.builder()
+                .id(2L)
+                .name("테스트")
+                .image("https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/profile.png")
+                .build();
+        PostSliceResponse response = new PostSliceResponse(Arrays.asList(
+                post(99L, auth), post(80L, auth)), 80L, true);
+
+        when(postService.getFollowingPostsByCursor(any(), any(), anyInt())).thenReturn(response);
+
+        mockMvc.perform(get("/api/feed/post/following/cursor")
+                        .header("Authorization", StringToken.getToken())
+                        .param("cursor", "100")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andDo(PostDocumentation.getFollowingPostsByCursor());
+    }
+
+    private PostResponse post(Long id, ChallengePhotoUserDto auth) {
+        return PostResponse.builder()
+                .id(id)
+                .ChallengePhotoUserDto(auth)
+                .title("매일 아침 7시에 일어나기!")
+                .image("https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/photo" + id + ".png")
+                .thumbnail("https://challengers-bucket.s3.ap-northeast-2.amazonaws.com/thumb_photo" + id + ".jpg")
+                .commentCnt(3L)
+                .likeCnt(5L)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.challengers.feed;
+
+import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.request.ParameterDescriptor;
+
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+
+public class PostDocumentation {
+    public static RestDocumentationResultHandler getFollowingPostsByCursor() {
+        ParameterDescriptor[] requestParams = new ParameterDescriptor[]{
+                parameterWithName("cursor").description("이전 응답의 nextCursor. 첫 페이지 조회 시 생략합니다. Required=false").optional(),
+                parameterWithName("size").description("조회할 게시물 수. 1 ~ 50, Required=false, Default=12").optional()
+        };
+
+        FieldDescriptor[] response = new FieldDescriptor[]{
+                fieldWithPath("content").type(JsonFieldType.ARRAY).description("팔로우한 사용자들의 게시물. 최신순"),
+                fieldWithPath("content.[].id").type(JsonFieldType.NUMBER).description("인증샷 id"),
+                fieldWithPath("content.[].auth.id").type(JsonFieldType.NUMBER).description("작성자 id"),
+                fieldWithPath("content.[].auth.name").type(JsonFieldType.STRING).description("작성자 이름"),
+                fieldWithPath("content.[].auth.image").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
+                fieldWithPath("content.[].title").type(JsonFieldType.STRING).description("챌린지 이름"),
+                fieldWithPath("content.[].image").type(JsonFieldType.STRING).description("인증샷 원본 URL"),
+                fieldWithPath("content.[].thumbnail").type(JsonFieldType.STRING).description("인증샷 썸네일 URL. 썸네일이 아직 없으면 원본 URL"),
+                fieldWithPath("content.[].commentCnt").type(JsonFieldType.NUMBER).description("댓글 수"),
+                fieldWithPath("content.[].likeCnt").type(JsonFieldType.NUMBER).description("좋아요 수"),
+                fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 페이지 조회에 사용할 커서. 마지막 페이지면 null").optional(),
+                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+        };
+
+        return document("feed/post/getFollowingPostsByCursor",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestParameters(requestParams),
+                responseFields(response)
+        );
+    }
+}
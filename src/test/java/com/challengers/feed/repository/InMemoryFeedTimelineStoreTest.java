@@ -0,0 +1,90 @@
+package com.challengers.feed.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryFeedTimelineStoreTest {
+
+    @Test
+    @DisplayName("추가한 인증샷은 최신순으로 커서 이후부터 조회")
+    void findBefore() {
+        InMemoryFeedTimelineStore store = new InMemoryFeedTimelineStore(10, 10);
+        store.save(1L, store.startLoading(1L), Arrays.asList(5L, 3L), true);
+        store.append(1L, 7L);
+
+        assertThat(store.findBefore(1L, null, 2)).contains(Arrays.asList(7L, 5L));
+        assertThat(store.findBefore(1L, 5L, 2)).contains(Collections.singletonList(3L));
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 오래된 인증샷을 버리고, 그 이후 범위는 답하지 않음")
+    void append_over_capacity() {
+        InMemoryFeedTimelineStore store = new InMemoryFeedTimelineStore(2, 10);
+        store.save(1L, store.startLoading(1L), Arrays.asList(5L, 3L), true);
+        store.append(1L, 7L);
+
+        assertThat(store.findBefore(1L, null, 2)).contains(Arrays.asList(7L, 5L));
+        assertThat(store.findBefore(1L, 5L, 2)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("타임라인이 없는 사용자에게는 추가하지 않음")
+    void append_without_timeline() {
+        InMemoryFeedTimelineStore store = new InMemoryFeedTimelineStore(10, 10);
+        store.append(1L, 7L);
+
+        assertThat(store.exists(1L)).isFalse();
+        assertThat(store.findBefore(1L, null, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최근에 사용하지 않은 사용자의 타임라인부터 제거")
+    void evict_least_recently_used() {
+        InMemoryFeedTimelineStore store = new InMemoryFeedTimelineStore(10, 2);
+        store.save(1L, store.startLoading(1L), Collections.singletonList(1L), true);
+        store.save(2L, store.startLoading(2L), Collections.singletonList(2L), true);
+        store.findBefore(1L, null, 1);
+        store.save(3L, store.startLoading(3L), Collections.singletonList(3L), true);
+
+        assertThat(store.exists(1L)).isTrue();
+        assertThat(store.exists(2L)).isFalse();
+        assertThat(store.exists(3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("채우는 동안 추가된 인증샷은 DB 에서 읽은 목록과 합쳐짐")
+    void append_while_loading() {
+        InMemoryFeedTimelineStore store = new InMemoryFeedTimelineStore(10, 10);
+        long generation = store.startLoading(1L);
+        store.append(1L, 9L);
+
+        assertThat(store.exists(1L)).isTrue();
+        assertThat(store.findBefore(1L, null, 2)).isEmpty();
+        assertThat(store.startLoading(1L)).isEqualTo(-1L);
+
+        store.save(1L, generation, Arrays.asList(5L, 3L), true);
+
+        assertThat(store.findBefore(1L, null, 3)).contains(Arrays.asList(9L, 5L, 3L));
+    }
+
+    @Test
+    @DisplayName("채우는 동안 버려진 타임라인은 저장하지 않음")
+    void evict_while_loading() {
+        InMemoryFeedTimelineStore store = new InMemoryFeedTimelineStore(10, 10);
+        long stale = store.startLoading(1L);
+        store.evict(1L);
+        long generation = store.startLoading(1L);
+
+        store.save(1L, stale, Arrays.asList(5L, 3L), true);
+        assertThat(store.findBefore(1L, null, 2)).isEmpty();
+
+        store.save(1L, generation, Collections.singletonList(7L), true);
+        assertThat(store.findBefore(1L, null, 2)).contains(Collections.singletonList(7L));
+    }
+}
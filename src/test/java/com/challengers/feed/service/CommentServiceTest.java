@@ -0,0 +1,79 @@
+package com.challengers.feed.service;
+
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.common.exception.BadRequestException;
+import com.challengers.feed.domain.Comment;
+import com.challengers.feed.dto.CommentDto;
+import com.challengers.feed.dto.CommentResponse;
+import com.challengers.feed.repository.CommentRepository;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+    @Mock UserRepository userRepository;
+    @Mock CommentRepository commentRepository;
+    @Mock ChallengePhotoRepository challengePhotoRepository;
+
+    CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(userRepository, commentRepository, challengePhotoRepository);
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 작성자는 한 번에 조회하고 다음 페이지 여부를 반환")
+    void getComment() {
+        ChallengePhoto challengePhoto = ChallengePhoto.builder().id(1L).build();
+        ReflectionTestUtils.setField(challengePhoto, "commentCount", 5L);
+        when(challengePhotoRepository.findById(1L)).thenReturn(Optional.of(challengePhoto));
+        when(commentRepository.findByChallengePhotoIdAndIdLessThanOrderByIdDesc(eq(1L), eq(Long.MAX_VALUE), any()))
+                .thenReturn(Arrays.asList(comment(9L, 1L), comment(8L, 2L), comment(7L, 1L)));
+        when(userRepository.findAllById(new HashSet<>(Arrays.asList(1L, 2L))))
+                .thenReturn(Arrays.asList(user(1L, "하진우"), user(2L, "김준성")));
+
+        CommentResponse response = commentService.getComment(1L, null, 2);
+
+        assertThat(response.getComments()).extracting(CommentDto::getId).containsExactly(9L, 8L);
+        assertThat(response.getComments()).extracting(comment -> comment.getAuth().getName()).containsExactly("하진우", "김준성");
+        assertThat(response.getCommentCnt()).isEqualTo(5L);
+        assertThat(response.getNextCursor()).isEqualTo(8L);
+        assertThat(response.isHasNext()).isTrue();
+        verify(userRepository, never()).findById(any());
+        verify(commentRepository, never()).countByChallengePhotoId(any());
+    }
+
+    @Test
+    @DisplayName("댓글 조회 실패 - 조회 개수 초과")
+    void getComment_invalidSize() {
+        assertThatThrownBy(() -> commentService.getComment(1L, null, 101))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Comment comment(Long id, Long userId) {
+        return Comment.builder().id(id).userId(userId).challengePhotoId(1L).content("content" + id).build();
+    }
+
+    private User user(Long id, String name) {
+        return User.builder().id(id).name(name).build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.challengers.feed.service;
+
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.feed.repository.InMemoryFeedTimelineStore;
+import com.challengers.follow.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedTimelineServiceTest {
+    @Mock FollowRepository followRepository;
+    @Mock ChallengePhotoRepository challengePhotoRepository;
+    @Mock FollowingFeedReader followingFeedReader;
+
+    InMemoryFeedTimelineStore feedTimelineStore;
+    FeedTimelineService feedTimelineService;
+
+    @BeforeEach
+    void setUp() {
+        feedTimelineStore = new InMemoryFeedTimelineStore(3, 100);
+        feedTimelineService = new FeedTimelineService(followRepository, challengePhotoRepository,
+                feedTimelineStore, followingFeedReader, Runnable::run, 2);
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 DB 에서 채운 뒤 id 목록으로 인증샷을 한 번에 조회")
+    void findPhotosBefore_load() {
+        when(challengePhotoRepository.findFollowingIds(eq(1L), any())).thenReturn(Arrays.asList(9L, 8L));
+        when(challengePhotoRepository.findAllWithUserAndChallengeByIdIn(Arrays.asList(9L, 8L))).thenReturn(photos(9L, 8L));
+
+        assertThat(ids(feedTimelineService.findPhotosBefore(1L, null, 2))).containsExactly(9L, 8L);
+        assertThat(feedTimelineStore.exists(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("타임라인을 채우는 동안 fan-out 된 인증샷도 타임라인에 남음")
+    void findPhotosBefore_fan_out_while_loading() {
+        when(followRepository.countByFromUser(2L)).thenReturn(1L);
+        when(followRepository.findFollowerIdsByUserId(2L)).thenReturn(Collections.singletonList(1L));
+        when(challengePhotoRepository.findFollowingIds(eq(1L), any())).thenAnswer(invocation -> {
+            feedTimelineService.fanOutAfterCommit(2L, 10L);
+            return Arrays.asList(9L, 8L);
+        });
+        when(challengePhotoRepository.findAllWithUserAndChallengeByIdIn(Arrays.asList(10L, 9L))).thenReturn(photos(10L, 9L));
+
+        assertThat(ids(feedTimelineService.findPhotosBefore(1L, null, 2))).containsExactly(10L, 9L);
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 작성자 목록은 팔로워 수로 다시 만듦")
+    void refreshHighFollowerUserIds() {
+        feedTimelineStore.save(1L, feedTimelineStore.startLoading(1L), Arrays.asList(8L, 3L), true);
+        when(followRepository.findUserIdsByFollowerCountGreaterThan(2L)).thenReturn(Collections.singletonList(2L));
+        when(followRepository.findFollowingIdsByUserId(1L)).thenReturn(Arrays.asList(2L, 4L));
+        when(challengePhotoRepository.findIdsByUserIdInAndIdLessThan(eq(Collections.singletonList(2L)), eq(Long.MAX_VALUE), any()))
+                .thenReturn(Collections.singletonList(10L));
+        when(challengePhotoRepository.findAllWithUserAndChallengeByIdIn(Arrays.asList(10L, 8L))).thenReturn(photos(10L, 8L));
+
+        feedTimelineService.refreshHighFollowerUserIds();
+
+        assertThat(ids(feedTimelineService.findPhotosBefore(1L, null, 2))).containsExactly(10L, 8L);
+
+        when(followRepository.findUserIdsByFollowerCountGreaterThan(2L)).thenReturn(Collections.emptyList());
+        when(challengePhotoRepository.findAllWithUserAndChallengeByIdIn(Arrays.asList(8L, 3L))).thenReturn(photos(8L, 3L));
+
+        feedTimelineService.refreshHighFollowerUserIds();
+
+        assertThat(ids(feedTimelineService.findPhotosBefore(1L, null, 2))).containsExactly(8L, 3L);
+    }
+
+    @Test
+    @DisplayName("새 인증샷은 팔로워의 타임라인에 추가")
+    void fanOut() {
+        feedTimelineStore.save(1L, feedTimelineStore.startLoading(1L), Collections.singletonList(3L), true);
+        when(followRepository.countByFromUser(2L)).thenReturn(1L);
+        when(followRepository.findFollowerIdsByUserId(2L)).thenReturn(Collections.singletonList(1L));
+
+        feedTimelineService.fanOutAfterCommit(2L, 10L);
+
+        assertThat(feedTimelineStore.findBefore(1L, null, 2)).contains(Arrays.asList(10L, 3L));
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 작성자의 인증샷은 조회할 때 직접 읽어 합침")
+    void fanOut_high_follower() {
+        feedTimelineStore.save(1L, feedTimelineStore.startLoading(1L), Arrays.asList(8L, 3L), true);
+        when(followRepository.countByFromUser(2L)).thenReturn(5L);
+        feedTimelineService.fanOutAfterCommit(2L, 10L);
+        verify(followRepository, never()).findFollowerIdsByUserId(anyLong());
+
+        when(followRepository.findFollowingIdsByUserId(1L)).thenReturn(Arrays.asList(2L, 4L));
+        when(challengePhotoRepository.findIdsByUserIdInAndIdLessThan(eq(Collections.singletonList(2L)), eq(Long.MAX_VALUE), any()))
+                .thenReturn(Collections.singletonList(10L));
+        when(challengePhotoRepository.findAllWithUserAndChallengeByIdIn(Arrays.asList(10L, 8L))).thenReturn(photos(10L, 8L));
+
+        assertThat(ids(feedTimelineService.findPhotosBefore(1L, null, 2))).containsExactly(10L, 8L);
+    }
+
+    @Test
+    @DisplayName("타임라인 보관 범위를 넘어서는 조회는 DB 에서 직접 조회")
+    void findPhotosBefore_beyond_timeline() {
+        feedTimelineStore.save(1L, feedTimelineStore.startLoading(1L), Arrays.asList(9L, 8L, 7L), false);
+        when(followingFeedReader.findPhotosBefore(1L, 7L, 2)).thenReturn(photos(6L, 5L));
+
+        assertThat(ids(feedTimelineService.findPhotosBefore(1L, 7L, 2))).containsExactly(6L, 5L);
+    }
+
+    private List<ChallengePhoto> photos(Long... ids) {
+        return Arrays.stream(ids)
+                .map(id -> ChallengePhoto.builder().id(id).build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> ids(List<ChallengePhoto> photos) {
+        return photos.stream().map(ChallengePhoto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.challengers.feed.service;
+
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.follow.FollowRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowingFeedReaderTest {
+    @Mock FollowRepository followRepository;
+    @Mock ChallengePhotoRepository challengePhotoRepository;
+
+    @Test
+    @DisplayName("팔로우 수가 기준 이하면 한 번의 쿼리로 조회")
+    void findPhotosBefore_single_query() {
+        FollowingFeedReader reader = new FollowingFeedReader(followRepository, challengePhotoRepository, 3);
+        when(followRepository.findFollowingIdsByUserId(1L)).thenReturn(Arrays.asList(2L, 3L));
+        when(challengePhotoRepository.findAllByUserIdInAndIdLessThan(eq(Arrays.asList(2L, 3L)), eq(Long.MAX_VALUE), any()))
+                .thenReturn(photos(9L, 8L));
+
+        assertThat(ids(reader.findPhotosBefore(1L, null, 2))).containsExactly(9L, 8L);
+    }
+
+    @Test
+    @DisplayName("팔로우 수가 기준을 넘으면 그룹별로 조회한 뒤 id 내림차순으로 병합")
+    void findPhotosBefore_merge() {
+        FollowingFeedReader reader = new FollowingFeedReader(followRepository, challengePhotoRepository, 2);
+        when(followRepository.findFollowingIdsByUserId(1L)).thenReturn(Arrays.asList(2L, 3L, 4L, 5L, 6L));
+        when(challengePhotoRepository.findAllByUserIdInAndIdLessThan(eq(Arrays.asList(2L, 3L)), eq(50L), any()))
+                .thenReturn(photos(40L, 12L, 3L));
+        when(challengePhotoRepository.findAllByUserIdInAndIdLessThan(eq(Arrays.asList(4L, 5L)), eq(50L), any()))
+                .thenReturn(photos(41L, 20L, 11L));
+        when(challengePhotoRepository.findAllByUserIdInAndIdLessThan(eq(Collections.singletonList(6L)), eq(50L), any()))
+                .thenReturn(Collections.emptyList());
+
+        assertThat(ids(reader.findPhotosBefore(1L, 50L, 3))).containsExactly(41L, 40L, 20L);
+    }
+
+    @Test
+    @DisplayName("팔로우한 사용자가 없으면 조회하지 않음")
+    void findPhotosBefore_no_following() {
+        FollowingFeedReader reader = new FollowingFeedReader(followRepository, challengePhotoRepository, 2);
+        when(followRepository.findFollowingIdsByUserId(1L)).thenReturn(Collections.emptyList());
+
+        assertThat(reader.findPhotosBefore(1L, null, 3)).isEmpty();
+        verifyNoInteractions(challengePhotoRepository);
+    }
+
+    private List<ChallengePhoto> photos(Long... ids) {
+        return Arrays.stream(ids)
+                .map(id -> ChallengePhoto.builder().id(id).build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> ids(List<ChallengePhoto> photos) {
+        return photos.stream().map(ChallengePhoto::getId).collect(Collectors.toList());
+    }
+}
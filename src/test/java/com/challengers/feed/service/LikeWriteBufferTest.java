@@ -0,0 +1,129 @@
+package com.challengers.feed.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBufferTest {
+    @Mock JdbcTemplate jdbcTemplate;
+
+    LikeWriteBuffer likeWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        likeWriteBuffer = new LikeWriteBuffer(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 4);
+    }
+
+    @Test
+    @DisplayName("반영 전의 좋아요/취소를 조회 결과에 합침")
+    void mergePending() {
+        likeWriteBuffer.like(1L, 10L);
+        likeWriteBuffer.unlike(1L, 20L);
+        likeWriteBuffer.like(2L, 30L);
+
+        assertThat(likeWriteBuffer.mergePending(1L, Arrays.asList(20L, 40L))).containsExactlyInAnyOrder(10L, 40L);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 요청은 마지막 상태 하나로 합쳐 한 번에 저장")
+    void flush() {
+        likeWriteBuffer.like(1L, 10L);
+        likeWriteBuffer.like(1L, 10L);
+        likeWriteBuffer.like(2L, 10L);
+        likeWriteBuffer.unlike(3L, 10L);
+        likeWriteBuffer.like(3L, 10L);
+        likeWriteBuffer.unlike(4L, 10L);
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenReturn(new int[]{1, 1, 0});
+        when(jdbcTemplate.batchUpdate(startsWith("delete"), anyList())).thenReturn(new int[]{1});
+
+        likeWriteBuffer.flush();
+
+        ArgumentCaptor<List<Object[]>> counts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("update challenge_photo set like_count = like_count"), counts.capture());
+        assertThat(counts.getValue()).hasSize(1);
+        assertThat(counts.getValue().get(0)).containsExactly(1L, 10L);
+
+        // 커밋된 요청은 다음 주기가 지나야 버퍼에서 빠진다.
+        likeWriteBuffer.flush();
+        assertThat(likeWriteBuffer.mergePending(1L, Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 중이거나 방금 커밋된 좋아요도 조회 결과에 합침")
+    void mergePending_while_flushing() {
+        likeWriteBuffer.like(1L, 10L);
+        List<List<Long>> mergedWhileFlushing = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenAnswer(invocation -> {
+            likeWriteBuffer.unlike(1L, 20L);
+            mergedWhileFlushing.add(likeWriteBuffer.mergePending(1L, Arrays.asList(20L)));
+            return new int[]{1};
+        });
+
+        likeWriteBuffer.flush();
+
+        assertThat(mergedWhileFlushing.get(0)).containsExactly(10L);
+        // 커밋 전에 DB 를 읽은 조회
+        assertThat(likeWriteBuffer.mergePending(1L, Arrays.asList(20L))).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 인증샷에 대한 좋아요는 저장되지 않고 카운터에도 더하지 않음")
+    void flush_missing_photo() {
+        likeWriteBuffer.like(1L, 10L);
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenReturn(new int[]{0});
+
+        likeWriteBuffer.flush();
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("exists (select 1 from challenge_photo"), inserts.capture());
+        assertThat(inserts.getValue().get(0)).containsExactly(10L, 1L, 10L, 10L, 1L);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("update challenge_photo"), anyList());
+    }
+
+    @Test
+    @DisplayName("드라이버가 반영된 행 수를 알려주지 않으면 해당 인증샷의 카운터를 다시 계산")
+    void flush_without_update_counts() {
+        likeWriteBuffer.like(1L, 10L);
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+
+        likeWriteBuffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("update challenge_photo set like_count = (select"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("update challenge_photo set like_count = like_count"), anyList());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 다음 주기에 다시 시도")
+    void flush_failed() {
+        likeWriteBuffer.like(1L, 10L);
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenThrow(new RuntimeException());
+
+        likeWriteBuffer.flush();
+
+        assertThat(likeWriteBuffer.mergePending(1L, Collections.emptyList())).containsExactly(10L);
+        verify(jdbcTemplate, never()).batchUpdate(eq("delete from likes where challenge_photo_id = ? and user_id = ?"), any(List.class));
+    }
+}
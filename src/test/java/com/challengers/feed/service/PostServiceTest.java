@@ -0,0 +1,94 @@
+package com.challengers.feed.service;
+
+import com.challengers.challenge.domain.Challenge;
+import com.challengers.challengephoto.domain.ChallengePhoto;
+import com.challengers.challengephoto.repository.ChallengePhotoRepository;
+import com.challengers.common.exception.BadRequestException;
+import com.challengers.feed.dto.PostResponse;
+import com.challengers.feed.dto.PostSliceResponse;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+    @Mock UserRepository userRepository;
+    @Mock ChallengePhotoRepository challengePhotoRepository;
+    @Mock FeedTimelineService feedTimelineService;
+
+    PostService postService;
+    User user;
+    Challenge challenge;
+
+    @BeforeEach
+    void setUp() {
+        postService = new PostService(userRepository, challengePhotoRepository, feedTimelineService);
+
+        user = User.builder().id(1L).name("테스트").image("https://user.png").build();
+        challenge = Challenge.builder().id(1L).name("매일 아침 7시에 일어나기!").build();
+    }
+
+    @Test
+    @DisplayName("피드 조회 - 댓글 수와 좋아요 수는 인증샷에 저장된 카운터를 사용")
+    void getAllPosts() {
+        ChallengePhoto first = challengePhoto(10L);
+        ReflectionTestUtils.setField(first, "commentCount", 3L);
+        ReflectionTestUtils.setField(first, "likeCount", 5L);
+        ChallengePhoto second = challengePhoto(9L);
+        when(challengePhotoRepository.findAllWithUserAndChallenge(any()))
+                .thenReturn(new PageImpl<>(Arrays.asList(first, second)));
+
+        List<PostResponse> posts = postService.getAllPosts(PageRequest.of(0, 12));
+
+        assertThat(posts).extracting(PostResponse::getId).containsExactly(10L, 9L);
+        assertThat(posts).extracting(PostResponse::getCommentCnt).containsExactly(3L, 0L);
+        assertThat(posts).extracting(PostResponse::getLikeCnt).containsExactly(5L, 0L);
+        assertThat(posts.get(0).getTitle()).isEqualTo(challenge.getName());
+        assertThat(posts.get(0).getAuth().getName()).isEqualTo(user.getName());
+    }
+
+    @Test
+    @DisplayName("팔로잉 피드 커서 조회 - 한 개를 더 읽어 다음 페이지 여부를 판단")
+    void getFollowingPostsByCursor() {
+        when(feedTimelineService.findPhotosBefore(1L, 100L, 3))
+                .thenReturn(Arrays.asList(challengePhoto(99L), challengePhoto(80L), challengePhoto(42L)));
+
+        PostSliceResponse response = postService.getFollowingPostsByCursor(1L, 100L, 2);
+
+        assertThat(response.getContent()).extracting(PostResponse::getId).containsExactly(99L, 80L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(80L);
+    }
+
+    @Test
+    @DisplayName("팔로잉 피드 커서 조회 실패 - 조회 개수 초과")
+    void getFollowingPostsByCursor_invalidSize() {
+        assertThatThrownBy(() -> postService.getFollowingPostsByCursor(1L, null, 51))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private ChallengePhoto challengePhoto(Long id) {
+        return ChallengePhoto.builder()
+                .id(id)
+                .user(user)
+                .challenge(challenge)
+                .photoUrl("https://photo" + id + ".png")
+                .build();
+    }
+}
@@ -3,13 +3,17 @@ package com.challengers.notification;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.request.ParameterDescriptor;
 
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 
 public class NotificationDocumentation {
     public static RestDocumentationResultHandler getAllNotifications() {
@@ -30,6 +34,52 @@ public class NotificationDocumentation {
         );
     }
 
+    public static RestDocumentationResultHandler getNotificationsByCursor() {
+        ParameterDescriptor[] requestParams = new ParameterDescriptor[]{
+                parameterWithName("cursor").description("이전 응답의 nextCursor. 첫 페이지 조회 시 생략합니다. Required=false").optional(),
+                parameterWithName("size").description("조회할 알림 수. 1 ~ 50, Required=false, Default=20").optional()
+        };
+
+        FieldDescriptor[] responseNotification= new FieldDescriptor[]{
+                fieldWithPath("content").type(JsonFieldType.ARRAY).description("받은 알림. 최신순"),
+                fieldWithPath("content.[].id").type(JsonFieldType.NUMBER).description("알림 아이디"),
+                fieldWithPath("content.[].type").type(JsonFieldType.STRING).description("알림 타입. [POST, CHALLENGE, POINT]"),
+                fieldWithPath("content.[].message").type(JsonFieldType.STRING).description("알림 내용"),
+                fieldWithPath("content.[].targetId").type(JsonFieldType.NUMBER).description("게시글, 챌린지에 대한 id"),
+                fieldWithPath("content.[].status").type(JsonFieldType.STRING).description("알림 상태. [READ, NOT_READ]"),
+                fieldWithPath("content.[].senderId").type(JsonFieldType.NUMBER).description("보낸 사람 아이디"),
+                fieldWithPath("content.[].senderName").type(JsonFieldType.STRING).description("보낸 사람 이름"),
+                fieldWithPath("content.[].senderImage").type(JsonFieldType.STRING).description("보낸 사람 이미지"),
+                fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 페이지 조회에 사용할 커서. 마지막 페이지면 null").optional(),
+                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+        };
+        return document("notification/getNotificationsByCursor",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestParameters(requestParams),
+                responseFields(responseNotification)
+        );
+    }
+
+    public static RestDocumentationResultHandler getUnreadCount() {
+        return document("notification/getUnreadCount",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                responseFields(fieldWithPath("unreadCount").type(JsonFieldType.NUMBER).description("읽지 않은 알림 수"))
+        );
+    }
+
+    public static RestDocumentationResultHandler subscribe() {
+        return document("notification/subscribe",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestHeaders(
+                        headerWithName("Authorization").description("Bearer 액세스 토큰"),
+                        headerWithName("Last-Event-ID").description("마지막으로 받은 알림 id. 재연결할 때 보내면 그 이후의 알림을 먼저 보냅니다. Required=false").optional()
+                )
+        );
+    }
+
     public static RestDocumentationResultHandler saveNotification() {
         FieldDescriptor[] requestNotification= new FieldDescriptor[]{
                 fieldWithPath("type").type(JsonFieldType.STRING).description("알림 타입. 게시글 관련이면 POST를, 챌린지 관련이면 CHALLENGE를, 포인트 관련이면 POINT를 보내주시면 됩니다. [POST, CHALLENGE, POINT]"),
@@ -52,6 +102,20 @@ public class NotificationDocumentation {
                 pathParameters(parameterWithName("notificationId").description("수정할 알림 id"))
         );
     }
+    public static RestDocumentationResultHandler readAllNotifications() {
+        return document("notification/readAllNotifications",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint())
+        );
+    }
+
+    public static RestDocumentationResultHandler deleteReadNotifications() {
+        return document("notification/deleteReadNotifications",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint())
+        );
+    }
+
     public static RestDocumentationResultHandler deleteNotification() {
         return document("notification/deleteNotification",
                 preprocessRequest(prettyPrint()),
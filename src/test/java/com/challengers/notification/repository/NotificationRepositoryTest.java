@@ -0,0 +1,110 @@
+package com.challengers.notification.repository;
+
+import com.challengers.notification.domain.Notification;
+import com.challengers.notification.domain.NotificationStatus;
+import com.challengers.notification.domain.NotificationType;
+import com.challengers.notification.dto.NotificationListDto;
+import com.challengers.user.domain.AuthProvider;
+import com.challengers.user.domain.Role;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class NotificationRepositoryTest {
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManager em;
+
+    User sender;
+    User recipient;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(user("sender@asf.com"));
+        recipient = userRepository.save(user("recipient@asf.com"));
+    }
+
+    @Test
+    void findNotificationsByRecipientIdAndIdLessThan() {
+        Notification first = notificationRepository.save(notification(NotificationStatus.NOT_READ));
+        Notification second = notificationRepository.save(notification(NotificationStatus.NOT_READ));
+        Notification third = notificationRepository.save(notification(NotificationStatus.READ));
+
+        List<NotificationListDto> notifications = notificationRepository.findNotificationsByRecipientIdAndIdLessThan(
+                recipient.getId(), third.getId(), PageRequest.of(0, 10));
+
+        Assertions.assertThat(notifications).extracting(NotificationListDto::getId).containsExactly(second.getId(), first.getId());
+        Assertions.assertThat(notifications.get(0).getSenderName()).isEqualTo(sender.getName());
+    }
+
+    @Test
+    void readAllAndDeleteRead() {
+        notificationRepository.save(notification(NotificationStatus.NOT_READ));
+        notificationRepository.save(notification(NotificationStatus.NOT_READ));
+        notificationRepository.save(notification(NotificationStatus.READ));
+
+        Assertions.assertThat(notificationRepository.readAllByRecipientId(recipient.getId())).isEqualTo(2);
+        Assertions.assertThat(notificationRepository.deleteAllReadByRecipientId(recipient.getId())).isEqualTo(3);
+        Assertions.assertThat(notificationRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    void deleteNotReadByIdAndRecipientId() {
+        Notification notRead = notificationRepository.save(notification(NotificationStatus.NOT_READ));
+        Notification read = notificationRepository.save(notification(NotificationStatus.READ));
+
+        Assertions.assertThat(notificationRepository.deleteNotReadByIdAndRecipientId(read.getId(), recipient.getId())).isEqualTo(0);
+        Assertions.assertThat(notificationRepository.deleteNotReadByIdAndRecipientId(notRead.getId(), sender.getId())).isEqualTo(0);
+        Assertions.assertThat(notificationRepository.deleteNotReadByIdAndRecipientId(notRead.getId(), recipient.getId())).isEqualTo(1);
+        Assertions.assertThat(notificationRepository.deleteNotReadByIdAndRecipientId(notRead.getId(), recipient.getId())).isEqualTo(0);
+        Assertions.assertThat(notificationRepository.deleteByIdAndRecipientId(read.getId(), recipient.getId())).isEqualTo(1);
+        Assertions.assertThat(notificationRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    void unreadNotificationCount() {
+        userRepository.increaseUnreadNotificationCount(recipient.getId());
+        userRepository.increaseUnreadNotificationCount(recipient.getId());
+        userRepository.decreaseUnreadNotificationCount(recipient.getId(), 5);
+        userRepository.increaseUnreadNotificationCount(recipient.getId());
+        em.clear();
+
+        Assertions.assertThat(userRepository.findUnreadNotificationCountById(recipient.getId())).contains(1L);
+    }
+
+    private Notification notification(NotificationStatus status) {
+        return Notification.builder()
+                .senderId(sender.getId())
+                .recipientId(recipient.getId())
+                .type(NotificationType.POST)
+                .targetId(1L)
+                .message("알림")
+                .status(status)
+                .build();
+    }
+
+    private User user(String email) {
+        return User.builder()
+                .role(Role.USER)
+                .email(email)
+                .name("asd")
+                .providerId("asf")
+                .provider(AuthProvider.local)
+                .password("asd")
+                .build();
+    }
+}
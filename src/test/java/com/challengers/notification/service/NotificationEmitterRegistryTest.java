@@ -0,0 +1,54 @@
+package com.challengers.notification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class NotificationEmitterRegistryTest {
+
+    @Test
+    @DisplayName("heartbeat 는 연결을 batch 로 나눠 전송 스레드 풀에 넘김")
+    void heartbeat() {
+        List<Runnable> submitted = new ArrayList<>();
+        NotificationEmitterRegistry registry = new NotificationEmitterRegistry(new SimpleMeterRegistry(),
+                submitted::add, 60000, 1000, 2);
+        registry.add(1L);
+        registry.add(1L);
+        registry.add(2L);
+
+        registry.heartbeat();
+
+        assertThat(submitted).hasSize(2);
+        submitted.forEach(Runnable::run);
+        assertThat(registry.getConnectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전송 스레드 풀이 가득 차면 이번 heartbeat 는 건너뜀")
+    void heartbeat_rejected() {
+        NotificationEmitterRegistry registry = new NotificationEmitterRegistry(new SimpleMeterRegistry(),
+                command -> { throw new RejectedExecutionException(); }, 60000, 1000, 2);
+        registry.add(1L);
+
+        assertThatCode(registry::heartbeat).doesNotThrowAnyException();
+        assertThat(registry.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기가 writeTimeout 보다 오래 걸린 연결은 끊음")
+    void slowWrite() {
+        NotificationEmitterRegistry registry = new NotificationEmitterRegistry(new SimpleMeterRegistry(),
+                Runnable::run, 60000, -1, 2);
+
+        registry.add(1L);
+
+        assertThat(registry.isConnected(1L)).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.challengers.notification.service;
+
+import com.challengers.notification.domain.NotificationType;
+import com.challengers.notification.dto.NotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPipelineTest {
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock NotificationPushService notificationPushService;
+
+    SimpleMeterRegistry meterRegistry;
+    NotificationPipeline notificationPipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationPipeline = new NotificationPipeline(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                notificationPushService, meterRegistry, 2, 0, 2);
+    }
+
+    @Test
+    @DisplayName("수신자마다 한 행으로 풀어 batchSize 행씩 저장하고 읽지 않은 알림 수를 늘림")
+    @SuppressWarnings("unchecked")
+    void flush() {
+        notificationPipeline.publishAfterCommit(event(1L, 2L, 3L));
+
+        notificationPipeline.flush();
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("insert into notification"), inserts.capture());
+        assertThat(inserts.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("update users"), anyList());
+        verify(notificationPushService).pushLatest(1L, 1);
+        verify(notificationPushService).pushLatest(3L, 1);
+        assertThat(meterRegistry.get("notification.pipeline.written").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("notification.pipeline.flush").timer().count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 이벤트를 버리고 버린 수를 기록")
+    void publish_queueFull() {
+        notificationPipeline.publishAfterCommit(event(1L));
+        notificationPipeline.publishAfterCommit(event(2L));
+        notificationPipeline.publishAfterCommit(event(3L, 4L));
+
+        assertThat(meterRegistry.get("notification.pipeline.queue.size").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("notification.pipeline.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 전송하지 않고 실패 수를 기록")
+    void flush_failed() {
+        when(jdbcTemplate.batchUpdate(startsWith("insert into notification"), anyList()))
+                .thenThrow(new IllegalStateException("db down"));
+        notificationPipeline.publishAfterCommit(event(1L));
+
+        notificationPipeline.flush();
+
+        verify(notificationPushService, never()).pushLatest(eq(1L), anyInt());
+        assertThat(meterRegistry.get("notification.pipeline.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private NotificationEvent event(Long... recipientIds) {
+        return NotificationEvent.builder()
+                .type(NotificationType.CHALLENGE)
+                .targetId(1L)
+                .message("이번 회차 인증 횟수를 채우지 못해 챌린지에 실패했습니다.")
+                .recipientIds(Arrays.asList(recipientIds))
+                .build();
+    }
+}
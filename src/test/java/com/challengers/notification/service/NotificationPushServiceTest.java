@@ -0,0 +1,111 @@
+package com.challengers.notification.service;
+
+import com.challengers.notification.domain.Notification;
+import com.challengers.notification.domain.NotificationStatus;
+import com.challengers.notification.domain.NotificationType;
+import com.challengers.notification.dto.NotificationListDto;
+import com.challengers.notification.repository.NotificationRepository;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPushServiceTest {
+    @Mock NotificationRepository notificationRepository;
+    @Mock UserRepository userRepository;
+    @Mock NotificationEmitterRegistry notificationEmitterRegistry;
+
+    NotificationPushService notificationPushService;
+
+    @BeforeEach
+    void setUp() {
+        notificationPushService = new NotificationPushService(notificationRepository, userRepository,
+                notificationEmitterRegistry, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("연결된 수신자에게 보낸 사람 정보와 함께 전송")
+    void pushAfterCommit() {
+        when(notificationEmitterRegistry.isConnected(1L)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(User.builder().id(2L).name("김준성").image("https://user.png").build()));
+
+        notificationPushService.pushAfterCommit(notification());
+
+        ArgumentCaptor<NotificationListDto> captor = ArgumentCaptor.forClass(NotificationListDto.class);
+        verify(notificationEmitterRegistry).send(eq(1L), captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(10L);
+        assertThat(captor.getValue().getSenderName()).isEqualTo("김준성");
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 수신자는 조회 없이 건너뜀")
+    void pushAfterCommit_notConnected() {
+        when(notificationEmitterRegistry.isConnected(1L)).thenReturn(false);
+
+        notificationPushService.pushAfterCommit(notification());
+
+        verify(userRepository, never()).findById(any());
+        verify(notificationEmitterRegistry, never()).send(any(), any(NotificationListDto.class));
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후의 알림을 다시 전송")
+    void subscribe_replay() {
+        SseEmitter emitter = new SseEmitter();
+        NotificationListDto missed = NotificationListDto.builder().id(11L).build();
+        when(notificationEmitterRegistry.add(1L)).thenReturn(emitter);
+        when(notificationRepository.findNotificationsByRecipientIdAndIdGreaterThan(eq(1L), eq(10L), any()))
+                .thenReturn(Arrays.asList(missed));
+
+        SseEmitter subscribed = notificationPushService.subscribe(1L, 10L);
+
+        assertThat(subscribed).isSameAs(emitter);
+        verify(notificationEmitterRegistry).send(1L, emitter, missed);
+    }
+
+    @Test
+    @DisplayName("한꺼번에 저장된 알림은 최근 알림을 다시 읽어 오래된 순서로 전송")
+    void pushLatest() {
+        NotificationListDto newer = NotificationListDto.builder().id(12L).build();
+        NotificationListDto older = NotificationListDto.builder().id(11L).build();
+        when(notificationEmitterRegistry.isConnected(1L)).thenReturn(true);
+        when(notificationRepository.findNotificationsByRecipientIdAndIdLessThan(eq(1L), eq(Long.MAX_VALUE), any()))
+                .thenReturn(Arrays.asList(newer, older));
+
+        notificationPushService.pushLatest(1L, 2);
+
+        InOrder inOrder = inOrder(notificationEmitterRegistry);
+        inOrder.verify(notificationEmitterRegistry).send(1L, older);
+        inOrder.verify(notificationEmitterRegistry).send(1L, newer);
+    }
+
+    private Notification notification() {
+        Notification notification = Notification.builder()
+                .senderId(2L)
+                .recipientId(1L)
+                .type(NotificationType.POST)
+                .targetId(1L)
+                .message("김준성님이 하진우님 게시물에 댓글을 달았습니다.")
+                .status(NotificationStatus.NOT_READ)
+                .build();
+        ReflectionTestUtils.setField(notification, "id", 10L);
+        return notification;
+    }
+}
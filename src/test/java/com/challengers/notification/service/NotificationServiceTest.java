@@ -0,0 +1,131 @@
+package com.challengers.notification.service;
+
+import com.challengers.common.exception.BadRequestException;
+import com.challengers.notification.domain.Notification;
+import com.challengers.notification.domain.NotificationStatus;
+import com.challengers.notification.domain.NotificationType;
+import com.challengers.notification.dto.NotificationListDto;
+import com.challengers.notification.dto.NotificationRequest;
+import com.challengers.notification.dto.NotificationSliceResponse;
+import com.challengers.notification.repository.NotificationRepository;
+import com.challengers.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+    @Mock NotificationRepository notificationRepository;
+    @Mock UserRepository userRepository;
+    @Mock NotificationPushService notificationPushService;
+    @Mock NotificationPipeline notificationPipeline;
+
+    NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationRepository, userRepository, notificationPushService, notificationPipeline);
+    }
+
+    @Test
+    @DisplayName("알림 커서 조회 - 한 개를 더 읽어 다음 페이지 여부를 판단")
+    void getNotificationsByCursor() {
+        when(notificationRepository.findNotificationsByRecipientIdAndIdLessThan(eq(1L), eq(Long.MAX_VALUE), any()))
+                .thenReturn(Arrays.asList(dto(9L), dto(8L), dto(7L)));
+
+        NotificationSliceResponse response = notificationService.getNotificationsByCursor(1L, null, 2);
+
+        assertThat(response.getContent()).extracting(NotificationListDto::getId).containsExactly(9L, 8L);
+        assertThat(response.getNextCursor()).isEqualTo(8L);
+        assertThat(response.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알림 커서 조회 실패 - 조회 개수 초과")
+    void getNotificationsByCursor_invalidSize() {
+        assertThatThrownBy(() -> notificationService.getNotificationsByCursor(1L, null, 51))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("알림 저장 - 카운터를 늘리고 커밋 후 전송을 예약")
+    void saveNotification() {
+        NotificationRequest notificationRequest = NotificationRequest.builder()
+                .type(NotificationType.POST)
+                .senderId(2L)
+                .recipientId(1L)
+                .targetId(1L)
+                .message("김준성님이 하진우님 게시물에 댓글을 달았습니다.")
+                .build();
+
+        notificationService.saveNotification(notificationRequest);
+
+        verify(notificationRepository).save(any(Notification.class));
+        verify(userRepository).increaseUnreadNotificationCount(1L);
+        verify(notificationPushService).pushAfterCommit(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("알림 모두 읽음 - 읽음 처리된 개수만큼 카운터 감소")
+    void readAllNotifications() {
+        when(notificationRepository.readAllByRecipientId(1L)).thenReturn(3);
+
+        notificationService.readAllNotifications(1L);
+
+        verify(userRepository).decreaseUnreadNotificationCount(1L, 3);
+    }
+
+    @Test
+    @DisplayName("알림 읽음 - 이미 읽은 알림은 카운터를 줄이지 않음")
+    void updateNotification_alreadyRead() {
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification(NotificationStatus.READ)));
+        when(notificationRepository.readByIdAndRecipientId(1L, 1L)).thenReturn(0);
+
+        notificationService.updateNotification(1L, 1L);
+
+        verify(userRepository, never()).decreaseUnreadNotificationCount(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 삭제 - 카운터 감소")
+    void deleteNotification_notRead() {
+        when(notificationRepository.deleteNotReadByIdAndRecipientId(1L, 1L)).thenReturn(1);
+
+        notificationService.deleteNotification(1L, 1L);
+
+        verify(userRepository).decreaseUnreadNotificationCount(1L, 1);
+        verify(notificationRepository, never()).deleteByIdAndRecipientId(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("읽은 알림 삭제 - 다른 요청이 먼저 읽음 처리해도 카운터를 줄이지 않음")
+    void deleteNotification_read() {
+        when(notificationRepository.deleteNotReadByIdAndRecipientId(1L, 1L)).thenReturn(0);
+        when(notificationRepository.deleteByIdAndRecipientId(1L, 1L)).thenReturn(1);
+
+        notificationService.deleteNotification(1L, 1L);
+
+        verify(userRepository, never()).decreaseUnreadNotificationCount(anyLong(), anyInt());
+    }
+
+    private Notification notification(NotificationStatus status) {
+        return Notification.builder().senderId(2L).recipientId(1L).status(status).build();
+    }
+
+    private NotificationListDto dto(Long id) {
+        return NotificationListDto.builder().id(id).status(NotificationStatus.NOT_READ).senderId(2L).build();
+    }
+}
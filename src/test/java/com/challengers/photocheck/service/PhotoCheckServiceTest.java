@@ -5,9 +5,12 @@ import com.challengers.challenge.domain.ChallengeStatus;
 import com.challengers.challenge.repository.ChallengeRepository;
 import com.challengers.challengephoto.repository.ChallengePhotoRepository;
 import com.challengers.common.AwsS3Uploader;
+import com.challengers.common.ImageThumbnailGenerator;
+import com.challengers.feed.service.FeedTimelineService;
 import com.challengers.photocheck.domain.PhotoCheck;
 import com.challengers.photocheck.domain.PhotoCheckStatus;
 import com.challengers.photocheck.dto.CheckRequest;
+import com.challengers.photocheck.dto.PhotoCheckModerationDto;
 import com.challengers.photocheck.dto.PhotoCheckRequest;
 import com.challengers.photocheck.repository.PhotoCheckRepository;
 import com.challengers.user.domain.User;
@@ -23,13 +26,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +52,8 @@ class PhotoCheckServiceTest {
     @Mock ChallengePhotoRepository challengePhotoRepository;
     @Mock UserChallengeRepository userChallengeRepository;
     @Mock PhotoCheckRepository photoCheckRepository;
+    @Mock ImageThumbnailGenerator imageThumbnailGenerator;
+    @Mock FeedTimelineService feedTimelineService;
 
     PhotoCheckService photoCheckService;
     User user;
@@ -56,7 +69,10 @@ class PhotoCheckServiceTest {
                 challengeRepository,
                 challengePhotoRepository,
                 userChallengeRepository,
-                photoCheckRepository);
+                photoCheckRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                imageThumbnailGenerator,
+                feedTimelineService);
 
         user = User.builder()
                 .id(1L)
@@ -97,6 +113,23 @@ class PhotoCheckServiceTest {
 
         verify(challengePhotoRepository).save(any());
         verify(photoCheckRepository).save(any());
+        verify(imageThumbnailGenerator).generateAfterCommit(eq("https://tempPhotoUrl.png"), any());
+        verify(feedTimelineService).fanOutAfterCommit(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("인증샷 등록 실패 - 저장에 실패하면 업로드한 사진을 삭제")
+    void addPhotoCheck_fail_save_deletes_uploaded_photo() {
+        when(challengeRepository.findById(any())).thenReturn(Optional.of(challenge));
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
+        when(userChallengeRepository.findByUserIdAndChallengeId(any(),any())).thenReturn(Optional.of(userChallenge));
+        when(photoCheckRepository.countByUserChallengeIdAndRound(any(),any())).thenReturn(0L);
+        when(awsS3Uploader.uploadImage(any())).thenReturn("https://tempPhotoUrl.png");
+        when(challengePhotoRepository.save(any())).thenThrow(new RuntimeException());
+
+        Assertions.assertThatThrownBy(()->photoCheckService.addPhotoCheck(photoCheckRequest, 1L))
+                .isInstanceOf(RuntimeException.class);
+        verify(awsS3Uploader).deleteUploadedImages(Collections.singletonList("https://tempPhotoUrl.png"));
     }
 
     @Test
@@ -136,57 +169,72 @@ class PhotoCheckServiceTest {
     @Test
     @DisplayName("인증샷 통과")
     void passPhotoCheck() {
-        CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L)));
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(photoCheckRepository.findById(any())).thenReturn(Optional.of(photoCheck));
+        CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L, 2L)));
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 1L, PhotoCheckStatus.WAITING),
+                new PhotoCheckModerationDto(2L, 1L, PhotoCheckStatus.FAIL)));
 
         photoCheckService.passPhotoCheck(checkRequest, 1L);
 
-        Assertions.assertThat(photoCheck.getStatus()).isEqualTo(PhotoCheckStatus.PASS);
+        verify(photoCheckRepository).updateStatusByIdIn(PhotoCheckStatus.PASS, new HashSet<>(Arrays.asList(1L, 2L)));
+        verify(photoCheckRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("인증샷 통과 실패 - 인증샷을 처리할 권한이 없습니다.")
     void passPhotoCheck_fail_unauthorized() {
-        CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L)));
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(photoCheckRepository.findById(any())).thenReturn(Optional.of(photoCheck));
+        CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L, 2L)));
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 2L, PhotoCheckStatus.WAITING),
+                new PhotoCheckModerationDto(2L, 1L, PhotoCheckStatus.WAITING)));
 
         Assertions.assertThatThrownBy(()->photoCheckService.passPhotoCheck(checkRequest, 2L))
                 .isInstanceOf(RuntimeException.class);
+        verify(photoCheckRepository, never()).updateStatusByIdIn(any(), any());
     }
 
     @Test
     @DisplayName("인증샷 통과 실패 - 이미 인증 통과된 사진이 있습니다.")
     void passPhotoCheck_fail() {
         CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L,2L)));
-        PhotoCheck photoCheck = PhotoCheck.builder().status(PhotoCheckStatus.PASS).build();
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(photoCheckRepository.findById(any())).thenReturn(Optional.of(photoCheck));
-
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 1L, PhotoCheckStatus.WAITING),
+                new PhotoCheckModerationDto(2L, 1L, PhotoCheckStatus.PASS)));
 
         Assertions.assertThatThrownBy(()->photoCheckService.passPhotoCheck(checkRequest, 1L))
                 .isInstanceOf(RuntimeException.class);
+        verify(photoCheckRepository, never()).updateStatusByIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("인증샷 통과 실패 - 존재하지 않는 인증샷이 있습니다.")
+    void passPhotoCheck_fail_not_found() {
+        CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L,2L)));
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 1L, PhotoCheckStatus.WAITING)));
+
+        Assertions.assertThatThrownBy(()->photoCheckService.passPhotoCheck(checkRequest, 1L))
+                .isInstanceOf(NoSuchElementException.class);
     }
 
     @Test
     @DisplayName("인증샷 실패 처리")
     void failPhotoCheck() {
         CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L)));
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(photoCheckRepository.findById(any())).thenReturn(Optional.of(photoCheck));
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 1L, PhotoCheckStatus.WAITING)));
 
         photoCheckService.failPhotoCheck(checkRequest, 1L);
 
-        Assertions.assertThat(photoCheck.getStatus()).isEqualTo(PhotoCheckStatus.FAIL);
+        verify(photoCheckRepository).updateStatusByIdIn(PhotoCheckStatus.FAIL, new HashSet<>(Arrays.asList(1L)));
     }
 
     @Test
     @DisplayName("인증샷 통과 실패 - 인증샷을 처리할 권한이 없습니다.")
     void failPhotoCheck_fail_unauthorized() {
         CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L)));
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(photoCheckRepository.findById(any())).thenReturn(Optional.of(photoCheck));
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 1L, PhotoCheckStatus.WAITING)));
 
         Assertions.assertThatThrownBy(()->photoCheckService.failPhotoCheck(checkRequest, 2L))
                 .isInstanceOf(RuntimeException.class);
@@ -196,12 +244,11 @@ class PhotoCheckServiceTest {
     @DisplayName("인증샷 통과 실패 - 이미 인증 실패 처리된 사진이 있습니다.")
     void failPhotoCheck_fail() {
         CheckRequest checkRequest = new CheckRequest(new ArrayList<>(Arrays.asList(1L,2L)));
-        PhotoCheck photoCheck = PhotoCheck.builder().status(PhotoCheckStatus.FAIL).build();
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(photoCheckRepository.findById(any())).thenReturn(Optional.of(photoCheck));
-
+        when(photoCheckRepository.findModerationTargets(any())).thenReturn(Arrays.asList(
+                new PhotoCheckModerationDto(1L, 1L, PhotoCheckStatus.FAIL),
+                new PhotoCheckModerationDto(2L, 1L, PhotoCheckStatus.WAITING)));
 
         Assertions.assertThatThrownBy(()->photoCheckService.failPhotoCheck(checkRequest, 1L))
                 .isInstanceOf(RuntimeException.class);
     }
-}
\ No newline at end of file
+}
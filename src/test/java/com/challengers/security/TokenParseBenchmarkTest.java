@@ -0,0 +1,64 @@
+package com.challengers.security;
+
+import com.challengers.config.AppProperties;
+import com.challengers.user.domain.Role;
+import com.challengers.user.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+/**
+ * 액세스 토큰 인증 벤치마크. 요청마다 문자열 비밀키로 파서를 새로 만들어 검증한 뒤 클레임을 얻으려고 한 번 더 파싱하던
+ * 기존 필터 방식과, 미리 만든 키와 파서로 한 번만 파싱하는 parseAccessToken 방식의 처리량을 비교한다.
+ *
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class TokenParseBenchmarkTest {
+    private static final String ACCESS_TOKEN_SECRET = "YWNjZXNzLXRva2VuLXNlY3JldA==";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    void compareTokenParse() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setAccessTokenSecret(ACCESS_TOKEN_SECRET);
+        appProperties.getAuth().setAccessTokenExpirationMsec(3600000);
+        appProperties.getAuth().setRefreshTokenSecret(ACCESS_TOKEN_SECRET);
+        TokenProvider tokenProvider = new TokenProvider(appProperties);
+        String accessToken = tokenProvider.createAccessTokenByUserEntity(
+                User.builder().id(1L).email("bench@challengers.com").role(Role.USER).build());
+
+        run(WARMUP, () -> legacyAuthenticate(accessToken));
+        run(WARMUP, () -> parseOnceAuthenticate(tokenProvider, accessToken));
+        long legacy = run(ITERATIONS, () -> legacyAuthenticate(accessToken));
+        long parseOnce = run(ITERATIONS, () -> parseOnceAuthenticate(tokenProvider, accessToken));
+
+        System.out.printf("access token authentication (%d tokens) - validate + parse: %d ops/s, parse once: %d ops/s%n",
+                ITERATIONS, ITERATIONS * 1000L / Math.max(legacy, 1), ITERATIONS * 1000L / Math.max(parseOnce, 1));
+    }
+
+    /**
+     * 기존 TokenAuthenticationFilter 와 같은 방식. validateAccessToken 과 getUserIdFromAccessToken 이 각각 파싱한다.
+     */
+    private Long legacyAuthenticate(String accessToken) {
+        Jwts.parser().setSigningKey(ACCESS_TOKEN_SECRET).parseClaimsJws(accessToken);
+        Claims claims = Jwts.parser().setSigningKey(ACCESS_TOKEN_SECRET).parseClaimsJws(accessToken).getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    private Long parseOnceAuthenticate(TokenProvider tokenProvider, String accessToken) {
+        ParsedToken parsedToken = tokenProvider.parseAccessToken(accessToken);
+        Optional<UserPrincipal> userPrincipal = tokenProvider.getUserPrincipal(parsedToken.getClaims());
+        return userPrincipal.map(UserPrincipal::getId).orElse(null);
+    }
+
+    private long run(int iterations, Runnable authenticate) {
+        long startedAt = System.currentTimeMillis();
+        for (int i = 0; i < iterations; i++) authenticate.run();
+        return System.currentTimeMillis() - startedAt;
+    }
+}
@@ -0,0 +1,101 @@
+package com.challengers.security;
+
+import com.challengers.config.AppProperties;
+import com.challengers.user.domain.Role;
+import com.challengers.user.domain.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderTest {
+    private static final String ACCESS_TOKEN_SECRET = "YWNjZXNzLXRva2VuLXNlY3JldA==";
+    private static final String REFRESH_TOKEN_SECRET = "cmVmcmVzaC10b2tlbi1zZWNyZXQ=";
+
+    TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setAccessTokenSecret(ACCESS_TOKEN_SECRET);
+        appProperties.getAuth().setAccessTokenExpirationMsec(60000);
+        appProperties.getAuth().setRefreshTokenSecret(REFRESH_TOKEN_SECRET);
+        appProperties.getAuth().setRefreshTokenExpirationMsec(120000);
+        tokenProvider = new TokenProvider(appProperties);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰의 클레임만으로 UserPrincipal 을 만듦")
+    void getUserPrincipal() {
+        User user = User.builder().id(1L).email("kjs@asf.com").role(Role.USER).build();
+        String accessToken = tokenProvider.createAccessTokenByUserEntity(user);
+
+        Optional<UserPrincipal> userPrincipal = tokenProvider.getUserPrincipal(tokenProvider.parseAccessToken(accessToken).getClaims());
+
+        assertThat(userPrincipal).isPresent();
+        assertThat(userPrincipal.get().getId()).isEqualTo(1L);
+        assertThat(userPrincipal.get().getEmail()).isEqualTo("kjs@asf.com");
+        assertThat(userPrincipal.get().getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("email, role 클레임이 없는 이전 형식의 토큰은 비어 있음")
+    void getUserPrincipal_legacyToken() {
+        String legacyToken = Jwts.builder()
+                .setSubject("1")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(SignatureAlgorithm.HS512, ACCESS_TOKEN_SECRET)
+                .compact();
+
+        ParsedToken parsedToken = tokenProvider.parseAccessToken(legacyToken);
+
+        assertThat(tokenProvider.getUserPrincipal(parsedToken.getClaims())).isEmpty();
+        assertThat(parsedToken.getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED 로 실패하지만 클레임은 남아 있음")
+    void parseAccessToken_expired() {
+        String expiredToken = Jwts.builder()
+                .setSubject("1")
+                .setIssuedAt(new Date(System.currentTimeMillis() - 120000))
+                .setExpiration(new Date(System.currentTimeMillis() - 60000))
+                .signWith(SignatureAlgorithm.HS512, ACCESS_TOKEN_SECRET)
+                .compact();
+
+        ParsedToken parsedToken = tokenProvider.parseAccessToken(expiredToken);
+
+        assertThat(parsedToken.isValid()).isFalse();
+        assertThat(parsedToken.isExpired()).isTrue();
+        assertThat(parsedToken.getFailure()).isEqualTo(TokenFailure.EXPIRED);
+        assertThat(parsedToken.getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 INVALID_SIGNATURE 로 실패")
+    void parseAccessToken_invalidSignature() {
+        User user = User.builder().id(1L).email("kjs@asf.com").role(Role.USER).build();
+        String refreshToken = tokenProvider.createRefreshTokenByUserEntity(user);
+
+        ParsedToken parsedToken = tokenProvider.parseAccessToken(refreshToken);
+
+        assertThat(parsedToken.isValid()).isFalse();
+        assertThat(parsedToken.getFailure()).isEqualTo(TokenFailure.INVALID_SIGNATURE);
+        assertThat(parsedToken.getClaims()).isNull();
+        assertThat(tokenProvider.parseRefreshToken(refreshToken).getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("토큰 형식이 아니면 MALFORMED 로 실패")
+    void parseAccessToken_malformed() {
+        assertThat(tokenProvider.parseAccessToken("not-a-jwt").getFailure()).isEqualTo(TokenFailure.MALFORMED);
+    }
+}
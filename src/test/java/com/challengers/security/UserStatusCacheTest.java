@@ -0,0 +1,72 @@
+package com.challengers.security;
+
+import com.challengers.config.AppProperties;
+import com.challengers.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatusCacheTest {
+    @Mock UserRepository userRepository;
+
+    UserStatusCache userStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setAccessTokenExpirationMsec(60000);
+        userStatusCache = new UserStatusCache(userRepository, appProperties, 60000, 2);
+    }
+
+    @Test
+    @DisplayName("사용자 존재 여부는 ttl 동안 한 번만 조회")
+    void isActive_cached() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertThat(userStatusCache.isActive(1L, new Date())).isTrue();
+        assertThat(userStatusCache.isActive(1L, new Date())).isTrue();
+
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰은 받지 않음")
+    void isActive_deletedUser() {
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThat(userStatusCache.isActive(1L, new Date())).isFalse();
+    }
+
+    @Test
+    @DisplayName("폐기 전에 발급된 토큰은 받지 않고, 이후에 발급된 토큰은 받음")
+    void revoke() {
+        Date issuedBefore = new Date(System.currentTimeMillis() - 5000);
+        userStatusCache.revoke(1L);
+
+        assertThat(userStatusCache.isActive(1L, issuedBefore)).isFalse();
+
+        when(userRepository.existsById(1L)).thenReturn(true);
+        assertThat(userStatusCache.isActive(1L, new Date(System.currentTimeMillis() + 5000))).isTrue();
+    }
+
+    @Test
+    @DisplayName("maxUsers 명을 넘으면 일부를 지워 크기를 유지")
+    void evictOverMaxUsers() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+
+        userStatusCache.isActive(1L, new Date());
+        userStatusCache.isActive(2L, new Date());
+        userStatusCache.isActive(3L, new Date());
+
+        assertThat(userStatusCache.size()).isLessThanOrEqualTo(2);
+    }
+}
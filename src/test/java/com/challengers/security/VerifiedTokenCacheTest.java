@@ -0,0 +1,103 @@
+package com.challengers.security;
+
+import com.challengers.config.AppProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+    @Mock TokenProvider tokenProvider;
+
+    VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setAccessTokenExpirationMsec(60000);
+        verifiedTokenCache = new VerifiedTokenCache(tokenProvider, appProperties, 2);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 검증")
+    void parseAccessToken_cached() {
+        when(tokenProvider.parseAccessToken("token")).thenReturn(ParsedToken.valid(claims(1L, 60000)));
+
+        ParsedToken first = verifiedTokenCache.parseAccessToken("token");
+        ParsedToken second = verifiedTokenCache.parseAccessToken("token");
+
+        assertThat(second).isSameAs(first);
+        verify(tokenProvider, times(1)).parseAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 다시 검증")
+    void parseAccessToken_expired() {
+        when(tokenProvider.parseAccessToken("token"))
+                .thenReturn(ParsedToken.valid(claims(1L, -1000)))
+                .thenReturn(ParsedToken.expired(claims(1L, -1000)));
+
+        verifiedTokenCache.parseAccessToken("token");
+        ParsedToken parsedToken = verifiedTokenCache.parseAccessToken("token");
+
+        assertThat(parsedToken.isExpired()).isTrue();
+        verify(tokenProvider, times(2)).parseAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않음")
+    void parseAccessToken_invalid() {
+        when(tokenProvider.parseAccessToken("token")).thenReturn(ParsedToken.failed(TokenFailure.INVALID_SIGNATURE));
+
+        verifiedTokenCache.parseAccessToken("token");
+        verifiedTokenCache.parseAccessToken("token");
+
+        verify(tokenProvider, times(2)).parseAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 서명이 유효해도 캐시와 검증 없이 REVOKED 로 실패")
+    void deny() {
+        when(tokenProvider.parseAccessToken("token1")).thenReturn(ParsedToken.valid(claims(1L, 60000)));
+        when(tokenProvider.parseAccessToken("token2")).thenReturn(ParsedToken.valid(claims(1L, 60000)));
+        verifiedTokenCache.parseAccessToken("token1");
+        verifiedTokenCache.parseAccessToken("token2");
+
+        verifiedTokenCache.deny(TokenDigest.sha256("token1"));
+
+        assertThat(verifiedTokenCache.parseAccessToken("token1").getFailure()).isEqualTo(TokenFailure.REVOKED);
+        assertThat(verifiedTokenCache.parseAccessToken("token1").getFailure()).isEqualTo(TokenFailure.REVOKED);
+        assertThat(verifiedTokenCache.parseAccessToken("token2").isValid()).isTrue();
+        verify(tokenProvider, times(1)).parseAccessToken("token1");
+        verify(tokenProvider, times(1)).parseAccessToken("token2");
+    }
+
+    @Test
+    @DisplayName("maxTokens 개를 넘으면 일부를 지워 크기를 유지")
+    void evictOverMaxTokens() {
+        when(tokenProvider.parseAccessToken(anyString()))
+                .thenAnswer(invocation -> ParsedToken.valid(claims(1L, 60000)));
+
+        verifiedTokenCache.parseAccessToken("token1");
+        verifiedTokenCache.parseAccessToken("token2");
+        verifiedTokenCache.parseAccessToken("token3");
+
+        assertThat(verifiedTokenCache.size()).isLessThanOrEqualTo(2);
+    }
+
+    private Claims claims(Long userId, long expiresInMillis) {
+        return Jwts.claims()
+                .setSubject(String.valueOf(userId))
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+}
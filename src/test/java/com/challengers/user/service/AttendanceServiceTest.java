@@ -0,0 +1,70 @@
+package com.challengers.user.service;
+
+import com.challengers.user.domain.Award;
+import com.challengers.user.dto.UserVisitedEvent;
+import com.challengers.user.repository.AchievementRepository;
+import com.challengers.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceServiceTest {
+    private static final LocalDate TODAY = LocalDate.of(2022, 6, 1);
+
+    @Mock UserRepository userRepository;
+    @Mock AchievementRepository achievementRepository;
+
+    AttendanceService attendanceService;
+
+    @BeforeEach
+    void setUp() {
+        attendanceService = new AttendanceService(userRepository, achievementRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("연속 출석 30일이 되면 개근 업적을 줌")
+    void onUserVisited_perfectAttendance() {
+        when(userRepository.recordVisit(1L, TODAY, TODAY.minusDays(1))).thenReturn(1);
+        when(userRepository.findAttendanceCountById(1L)).thenReturn(Optional.of(AttendanceService.PERFECT_ATTENDANCE_DAYS));
+
+        attendanceService.onUserVisited(new UserVisitedEvent(1L, TODAY));
+
+        verify(achievementRepository).insertIfAbsent(1L, Award.PERFECT_ATTENDANCE.name());
+    }
+
+    @Test
+    @DisplayName("연속 출석 30일 전에는 업적을 주지 않음")
+    void onUserVisited() {
+        when(userRepository.recordVisit(1L, TODAY, TODAY.minusDays(1))).thenReturn(1);
+        when(userRepository.findAttendanceCountById(1L)).thenReturn(Optional.of(3L));
+
+        attendanceService.onUserVisited(new UserVisitedEvent(1L, TODAY));
+
+        verify(achievementRepository, never()).insertIfAbsent(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 로그인하면 출석과 업적을 반영하지 않음")
+    void onUserVisited_sameDay() {
+        when(userRepository.recordVisit(1L, TODAY, TODAY.minusDays(1))).thenReturn(0);
+
+        attendanceService.onUserVisited(new UserVisitedEvent(1L, TODAY));
+
+        verify(userRepository, never()).findAttendanceCountById(anyLong());
+        verifyNoInteractions(achievementRepository);
+    }
+}
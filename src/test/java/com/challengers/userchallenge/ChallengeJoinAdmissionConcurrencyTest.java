@@ -0,0 +1,113 @@
+package com.challengers.userchallenge;
+
+import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.domain.CheckFrequencyType;
+import com.challengers.challenge.repository.ChallengeRepository;
+import com.challengers.challenge.service.ChallengeService;
+import com.challengers.user.domain.AuthProvider;
+import com.challengers.user.domain.Role;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import com.challengers.userchallenge.repository.UserChallengeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ChallengeJoinAdmissionConcurrencyTest {
+    private static final int USER_COUNT_LIMIT = 50;
+    private static final int JOIN_REQUESTS = 100;
+    private static final int THREADS = 16;
+
+    @Autowired ChallengeService challengeService;
+    @Autowired ChallengeRepository challengeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired UserChallengeRepository userChallengeRepository;
+
+    Challenge challenge;
+    List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        challenge = challengeRepository.save(Challenge.builder()
+                .checkFrequencyType(CheckFrequencyType.EVERY_DAY)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(10))
+                .checkTimesPerRound(1)
+                .userCount(0)
+                .userCountLimit(USER_COUNT_LIMIT)
+                .build());
+
+        for (int i = 0; i < JOIN_REQUESTS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .role(Role.USER)
+                    .email("joiner" + i + "@challengers.com")
+                    .name("joiner" + i)
+                    .providerId("joiner" + i)
+                    .provider(AuthProvider.local)
+                    .password("password")
+                    .challengeCount(0L)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userChallengeRepository.deleteAll(userChallengeRepository.findByChallengeId(challenge.getId()));
+        challengeRepository.deleteById(challenge.getId());
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("정원이 제한된 챌린지에 동시에 참여해도 정원을 넘지 않고 참여 인원 수가 정확하다")
+    void concurrentJoin() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(JOIN_REQUESTS);
+        AtomicInteger joined = new AtomicInteger();
+        Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+
+        for (User user : users) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    challengeService.join(challenge.getId(), user.getId());
+                    joined.incrementAndGet();
+                } catch (Exception e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        int userCount = challengeRepository.findById(challenge.getId()).orElseThrow().getUserCount();
+        long participants = userChallengeRepository.countByChallengeId(challenge.getId());
+
+        assertThat(joined.get()).isEqualTo(USER_COUNT_LIMIT);
+        assertThat(failures).hasSize(JOIN_REQUESTS - USER_COUNT_LIMIT)
+                .allSatisfy(e -> assertThat(e).isExactlyInstanceOf(RuntimeException.class).hasMessage("참여 인원이 가득 찼습니다."));
+        assertThat(userCount).isEqualTo(USER_COUNT_LIMIT);
+        assertThat(participants).isEqualTo(joined.get());
+    }
+}
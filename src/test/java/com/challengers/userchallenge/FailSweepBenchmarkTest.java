@@ -0,0 +1,145 @@
+package com.challengers.userchallenge;
+
+import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.domain.ChallengeStatus;
+import com.challengers.challenge.domain.CheckFrequencyType;
+import com.challengers.challenge.repository.ChallengeRepository;
+import com.challengers.user.domain.AuthProvider;
+import com.challengers.user.domain.Role;
+import com.challengers.user.domain.User;
+import com.challengers.user.repository.UserRepository;
+import com.challengers.userchallenge.domain.UserChallenge;
+import com.challengers.userchallenge.service.UserChallengeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 회차 실패 처리 벤치마크. 참여자 100,000명(챌린지 100개 * 유저 1,000명) 중 절반이 이번 회차 인증을 하지 않은 상황에서
+ * 엔티티를 모두 읽어 하나씩 실패 처리하던 기존 방식과 set-based UPDATE 방식의 소요 시간을 비교한다.
+ * 각 실행은 롤백되므로 두 방식 모두 같은 데이터에서 측정된다.
+ *
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class FailSweepBenchmarkTest {
+    private static final int CHALLENGES = 100;
+    private static final int USERS = 1000;
+    private static final int BATCH_SIZE = 5000;
+
+    @Autowired ChallengeRepository challengeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired UserChallengeService userChallengeService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired EntityManager em;
+
+    List<Long> challengeIds = new ArrayList<>();
+    List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .role(Role.USER)
+                    .email("bench" + i + "@challengers.com")
+                    .name("bench" + i)
+                    .provider(AuthProvider.local)
+                    .build()).getId());
+        }
+        for (int i = 0; i < CHALLENGES; i++) {
+            challengeIds.add(challengeRepository.save(Challenge.builder()
+                    .checkFrequencyType(CheckFrequencyType.EVERY_DAY)
+                    .checkTimesPerRound(1)
+                    .depositPoint(1000)
+                    .round(1)
+                    .status(ChallengeStatus.IN_PROGRESS)
+                    .startDate(LocalDate.now().minusDays(1))
+                    .endDate(LocalDate.now().plusDays(10))
+                    .build()).getId());
+        }
+
+        List<Object[]> userChallenges = new ArrayList<>();
+        for (Long challengeId : challengeIds)
+            for (Long userId : userIds)
+                userChallenges.add(new Object[]{challengeId, userId});
+        for (int from = 0; from < userChallenges.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("insert into user_challenge (challenge_id, user_id, max_progress, progress, status) " +
+                            "values (?, ?, 100, 0, 2)",
+                    userChallenges.subList(from, Math.min(from + BATCH_SIZE, userChallenges.size())));
+        }
+
+        // 절반의 참여자만 이번 회차 인증을 한 상태
+        jdbcTemplate.update("insert into photo_check (user_challenge_id, round, status) " +
+                "select uc.user_challenge_id, 1, 0 from user_challenge uc " +
+                "where mod(uc.user_challenge_id, 2) = 0 and uc.challenge_id in (" + joinIds(challengeIds) + ")");
+    }
+
+    @AfterEach
+    void tearDown() {
+        String challengeIdList = joinIds(challengeIds);
+        jdbcTemplate.update("delete from photo_check where user_challenge_id in " +
+                "(select user_challenge_id from user_challenge where challenge_id in (" + challengeIdList + "))");
+        jdbcTemplate.update("delete from user_challenge where challenge_id in (" + challengeIdList + ")");
+        jdbcTemplate.update("delete from challenge where challenge_id in (" + challengeIdList + ")");
+        jdbcTemplate.update("delete from users where user_id in (" + joinIds(userIds) + ")");
+    }
+
+    @Test
+    void compareFailSweep() {
+        long legacy = measureRolledBack(this::legacySweep);
+        long setBased = measureRolledBack(() ->
+                userChallengeService.failProcess(LocalDate.now(), Collections.singletonList(CheckFrequencyType.EVERY_DAY),
+                        UUID.randomUUID().toString()));
+
+        System.out.printf("fail sweep (%d user challenges) - entity: %d ms, set-based: %d ms%n",
+                CHALLENGES * USERS, legacy, setBased);
+    }
+
+    /**
+     * 기존 ChallengeScheduler.toFail 과 같은 방식. 실패한 참여자 엔티티를 모두 읽어 한 건씩 갱신한다.
+     */
+    private void legacySweep() {
+        List<UserChallenge> fails = em.createQuery("select uc from UserChallenge uc left join uc.photoChecks pc " +
+                "where uc.status=2 group by uc.id having count(pc.id) < uc.challenge.checkTimesPerRound", UserChallenge.class)
+                .getResultList();
+        Map<Challenge, Long> failCounts = new HashMap<>();
+        for (UserChallenge fail : fails) {
+            em.createQuery("update UserChallenge uc set uc.status = 0 where uc.id = :id")
+                    .setParameter("id", fail.getId())
+                    .executeUpdate();
+            failCounts.merge(fail.getChallenge(), 1L, Long::sum);
+        }
+        failCounts.forEach((challenge, count) ->
+                em.createQuery("update Challenge c set c.failedPoint = c.failedPoint + :point where c.id = :id")
+                        .setParameter("point", (int) (challenge.getDepositPoint() * count))
+                        .setParameter("id", challenge.getId())
+                        .executeUpdate());
+    }
+
+    private long measureRolledBack(Runnable sweep) {
+        return transactionTemplate.execute(status -> {
+            long startedAt = System.currentTimeMillis();
+            sweep.run();
+            em.flush();
+            long elapsed = System.currentTimeMillis() - startedAt;
+            status.setRollbackOnly();
+            return elapsed;
+        });
+    }
+
+    private String joinIds(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -1,6 +1,8 @@
 package com.challengers.userchallenge.repository;
 
 import com.challengers.challenge.domain.Challenge;
+import com.challengers.challenge.domain.ChallengeStatus;
+import com.challengers.challenge.domain.CheckFrequencyType;
 import com.challengers.challenge.repository.ChallengeRepository;
 import com.challengers.photocheck.domain.PhotoCheck;
 import com.challengers.photocheck.repository.PhotoCheckRepository;
@@ -9,6 +11,9 @@ import com.challengers.user.domain.Role;
 import com.challengers.user.domain.User;
 import com.challengers.user.repository.UserRepository;
 import com.challengers.userchallenge.domain.UserChallenge;
+import com.challengers.userchallenge.domain.UserChallengeStatus;
+import com.challengers.userchallenge.dto.ChallengerDto;
+import com.challengers.userchallenge.service.UserChallengeService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,14 +23,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
-
-import static org.junit.jupiter.api.Assertions.*;
+import java.util.UUID;
 
 @SpringBootTest
 @Transactional
 class UserChallengeRepositoryTest {
+    private static final List<Integer> EVERY_DAY = Collections.singletonList(CheckFrequencyType.EVERY_DAY.ordinal());
+
     @Autowired
     ChallengeRepository challengeRepository;
     @Autowired
@@ -34,70 +40,130 @@ class UserChallengeRepositoryTest {
     UserChallengeRepository userChallengeRepository;
     @Autowired
     PhotoCheckRepository photoCheckRepository;
+    @Autowired
+    UserChallengeService userChallengeService;
+    @Autowired
+    EntityManager em;
 
     User user;
+    User user2;
     Challenge challenge;
 
     @BeforeEach
     void setUp() {
-        user = User.builder()
-                .role(Role.USER)
-                .email("kjs@asf.com")
-                .name("asd")
-                .providerId("asf")
-                .provider(AuthProvider.local)
-                .password("asd")
-                .build();
-        userRepository.save(user);
+        user = createUser("kjs@asf.com");
+        user2 = createUser("kjs2@asf.com");
 
         challenge = Challenge.builder()
                 .startDate(LocalDate.now().plusDays(1))
                 .endDate(LocalDate.now().plusDays(10))
+                .checkFrequencyType(CheckFrequencyType.EVERY_DAY)
                 .checkTimesPerRound(1)
+                .depositPoint(1000)
+                .round(1)
+                .status(ChallengeStatus.IN_PROGRESS)
                 .build();
         challengeRepository.save(challenge);
+    }
 
+    @Test
+    void failOfCurrentRound() {
+        UserChallenge userChallenge = userChallengeRepository.save(UserChallenge.create(challenge, user));
+        photoCheckRepository.save(PhotoCheck.builder().userChallenge(userChallenge).round(1).build());
+
+        sweep(EVERY_DAY);
+
+        Assertions.assertThat(findStatus(userChallenge)).isEqualTo(UserChallengeStatus.IN_PROGRESS);
+        Assertions.assertThat(challengeRepository.findById(challenge.getId()).get().getFailedPoint()).isEqualTo(0);
+    }
+
+    @Test
+    void failOfCurrentRound2() {
+        UserChallenge userChallenge1 = userChallengeRepository.save(UserChallenge.create(challenge, user));
+        UserChallenge userChallenge2 = userChallengeRepository.save(UserChallenge.create(challenge, user2));
+        photoCheckRepository.save(PhotoCheck.builder().userChallenge(userChallenge1).round(1).build());
+
+        int failed = sweep(EVERY_DAY);
+
+        Assertions.assertThat(failed).isEqualTo(1);
+        Assertions.assertThat(findStatus(userChallenge1)).isEqualTo(UserChallengeStatus.IN_PROGRESS);
+        Assertions.assertThat(findStatus(userChallenge2)).isEqualTo(UserChallengeStatus.FAIL);
+        Assertions.assertThat(challengeRepository.findById(challenge.getId()).get().getFailedPoint()).isEqualTo(1000);
     }
 
     @Test
-    void findAllFail() {
-        UserChallenge userChallenge = UserChallenge.create(challenge, user);
-        userChallengeRepository.save(userChallenge);
+    void findFailedBySweep() {
+        UserChallenge userChallenge1 = userChallengeRepository.save(UserChallenge.create(challenge, user));
+        userChallengeRepository.save(UserChallenge.create(challenge, user2));
+        photoCheckRepository.save(PhotoCheck.builder().userChallenge(userChallenge1).round(1).build());
 
-        List<PhotoCheck> photoChecks = userChallenge.getPhotoChecks();
-        PhotoCheck photoCheck = PhotoCheck.builder().userChallenge(userChallenge).build();
-        photoCheckRepository.save(photoCheck);
-        photoChecks.add(photoCheck);
+        sweep(EVERY_DAY, "sweep-1");
 
-        List<UserChallenge> allFail = userChallengeRepository.findAllFail();
+        List<ChallengerDto> failed = userChallengeRepository.findFailedBySweep("sweep-1", challenge.getId(), challenge.getId());
+        Assertions.assertThat(failed).extracting(ChallengerDto::getUserId).containsExactly(user2.getId());
+        Assertions.assertThat(userChallengeRepository.findFailedBySweep("sweep-2", challenge.getId(), challenge.getId())).isEmpty();
+    }
 
-        Assertions.assertThat(allFail.size()).isEqualTo(0);
+    @Test
+    void failProcessTwiceOnSameDay() {
+        userChallengeRepository.save(UserChallenge.create(challenge, user));
+        em.flush();
+        userChallengeService.failProcess(LocalDate.now(), Collections.singletonList(CheckFrequencyType.EVERY_DAY), "sweep-1");
+
+        // 같은 날 다시 실행될 때 새로 실패한 참여자가 있어도 앞 실행에서 적립한 실패는 다시 더하지 않는다.
+        userChallengeRepository.save(UserChallenge.create(challenge, user2));
+        em.flush();
+        int failed = userChallengeService.failProcess(LocalDate.now(), Collections.singletonList(CheckFrequencyType.EVERY_DAY), "sweep-2");
+        em.clear();
+
+        Assertions.assertThat(failed).isEqualTo(1);
+        Assertions.assertThat(challengeRepository.findById(challenge.getId()).get().getFailedPoint()).isEqualTo(2000);
     }
 
     @Test
-    void findAllFail2() {
-        User user2 = User.builder()
+    void photoCheckOfPastRoundIsNotCounted() {
+        UserChallenge userChallenge = userChallengeRepository.save(UserChallenge.create(challenge, user));
+        photoCheckRepository.save(PhotoCheck.builder().userChallenge(userChallenge).round(0).build());
+
+        sweep(EVERY_DAY);
+
+        Assertions.assertThat(findStatus(userChallenge)).isEqualTo(UserChallengeStatus.FAIL);
+    }
+
+    @Test
+    void challengeOfOtherCheckFrequencyIsNotSwept() {
+        UserChallenge userChallenge = userChallengeRepository.save(UserChallenge.create(challenge, user));
+
+        int failed = sweep(Collections.singletonList(CheckFrequencyType.EVERY_WEEK.ordinal()));
+
+        Assertions.assertThat(failed).isEqualTo(0);
+        Assertions.assertThat(findStatus(userChallenge)).isEqualTo(UserChallengeStatus.IN_PROGRESS);
+    }
+
+    private int sweep(List<Integer> checkFrequencyTypes) {
+        return sweep(checkFrequencyTypes, UUID.randomUUID().toString());
+    }
+
+    private int sweep(List<Integer> checkFrequencyTypes, String sweepId) {
+        em.flush();
+        int failed = userChallengeRepository.markFailOfCurrentRound(LocalDate.now(), checkFrequencyTypes, sweepId);
+        userChallengeRepository.addFailedPointOfSweep(sweepId);
+        em.clear();
+        return failed;
+    }
+
+    private UserChallengeStatus findStatus(UserChallenge userChallenge) {
+        return userChallengeRepository.findById(userChallenge.getId()).get().getStatus();
+    }
+
+    private User createUser(String email) {
+        return userRepository.save(User.builder()
                 .role(Role.USER)
-                .email("kjs2@asf.com")
+                .email(email)
                 .name("asd")
                 .providerId("asf")
                 .provider(AuthProvider.local)
                 .password("asd")
-                .build();
-        userRepository.save(user2);
-
-        UserChallenge userChallenge1 = UserChallenge.create(challenge, user);
-        userChallengeRepository.save(userChallenge1);
-        UserChallenge userChallenge2 = UserChallenge.create(challenge, user2);
-        userChallengeRepository.save(userChallenge2);
-
-        List<PhotoCheck> photoChecks = userChallenge1.getPhotoChecks();
-        PhotoCheck photoCheck = PhotoCheck.builder().userChallenge(userChallenge1).build();
-        photoCheckRepository.save(photoCheck);
-        photoChecks.add(photoCheck);
-
-        List<UserChallenge> allFail = userChallengeRepository.findAllFail();
-
-        Assertions.assertThat(allFail.size()).isEqualTo(1);
+                .build());
     }
-}
\ No newline at end of file
+}